@@ -0,0 +1,150 @@
+package io.rala;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * counts requested types during warm-up and afterwards
+ * maps hot types via a single lookup
+ * <p>
+ * types which are not specialized are still counted -
+ * after another warm-up of them dispatch is specialized again
+ * keeping previously specialized types
+ * <p>
+ * specialization is dropped and warm-up restarts
+ * if the version of the owning {@link StringMapper} changes
+ *
+ * @since 1.1.0
+ */
+final class AdaptiveDispatch {
+    /**
+     * maximal count of specialized types
+     */
+    static final int HOT_TYPE_LIMIT = 32;
+    /**
+     * minimal share of samples in percent for a type to be hot
+     */
+    private static final int HOT_TYPE_PERCENT = 1;
+    private final int warmUp;
+    private final Map<Class<?>, LongAdder> typeCounts = new ConcurrentHashMap<>();
+    private final LongAdder sampleCount = new LongAdder();
+    private final LongAdder pendingCount = new LongAdder();
+    private volatile Specialization specialization;
+
+    AdaptiveDispatch(int warmUp) {
+        this.warmUp = warmUp;
+    }
+
+    /**
+     * @param type    requested type
+     * @param version current version of owner
+     * @return specialized mapper or {@code null} if {@code type} is not specialized
+     */
+    @Nullable
+    Function<String, ?> getMapper(@NotNull Class<?> type, long version) {
+        Specialization current = specialization;
+        if (current == null) return null;
+        if (current.version != version) {
+            reset(current);
+            return null;
+        }
+        return current.mappers.get(type);
+    }
+
+    /**
+     * counts {@code type} if it is not specialized
+     *
+     * @param type requested type
+     * @return {@code true} if (another) warm-up is done and
+     * {@link #specialize(long, Function)} should be called
+     */
+    boolean record(@NotNull Class<?> type) {
+        typeCounts.computeIfAbsent(type, t -> new LongAdder()).increment();
+        sampleCount.increment();
+        pendingCount.increment();
+        return pendingCount.sum() >= warmUp;
+    }
+
+    /**
+     * @param version  version of owner before resolving
+     * @param resolver resolves a type - {@code null} if not mappable
+     */
+    synchronized void specialize(
+        long version,
+        @NotNull Function<Class<?>, Map.Entry<AdaptiveReport.Resolution, Function<String, ?>>> resolver
+    ) {
+        if (pendingCount.sum() < warmUp) return;
+        Specialization previous = specialization;
+        if (previous != null && previous.version != version) previous = null;
+        long samples = sampleCount.sum();
+        Map<Class<?>, Function<String, ?>> mappers = new HashMap<>();
+        Map<Class<?>, AdaptiveReport.Resolution> resolutions = new LinkedHashMap<>();
+        for (Map.Entry<Class<?>, Long> entry : getTypeCounts().entrySet()) {
+            if (mappers.size() == HOT_TYPE_LIMIT) break;
+            Class<?> type = entry.getKey();
+            if (previous != null && previous.mappers.containsKey(type)) {
+                mappers.put(type, previous.mappers.get(type));
+                resolutions.put(type, previous.resolutions.get(type));
+                continue;
+            }
+            if (entry.getValue() * 100 < samples * HOT_TYPE_PERCENT) continue;
+            Map.Entry<AdaptiveReport.Resolution, Function<String, ?>> resolved = resolver.apply(type);
+            if (resolved == null) continue;
+            mappers.put(type, resolved.getValue());
+            resolutions.put(type, resolved.getKey());
+        }
+        pendingCount.reset();
+        specialization = new Specialization(version, mappers, resolutions);
+    }
+
+    @NotNull
+    AdaptiveReport getReport() {
+        Specialization current = specialization;
+        return new AdaptiveReport(sampleCount.sum(), getTypeCounts(), current != null,
+            current == null ? Collections.emptyMap() : current.resolutions
+        );
+    }
+
+    private synchronized void reset(@NotNull Specialization expected) {
+        if (specialization != expected) return;
+        typeCounts.clear();
+        sampleCount.reset();
+        pendingCount.reset();
+        specialization = null;
+    }
+
+    /**
+     * @return counts ordered descending
+     */
+    @NotNull
+    private Map<Class<?>, Long> getTypeCounts() {
+        List<Map.Entry<Class<?>, Long>> entries = new ArrayList<>();
+        for (Map.Entry<Class<?>, LongAdder> entry : typeCounts.entrySet())
+            entries.add(Map.entry(entry.getKey(), entry.getValue().sum()));
+        entries.sort(Map.Entry.<Class<?>, Long>comparingByValue().reversed());
+        Map<Class<?>, Long> counts = new LinkedHashMap<>();
+        for (Map.Entry<Class<?>, Long> entry : entries)
+            counts.put(entry.getKey(), entry.getValue());
+        return counts;
+    }
+
+    private static final class Specialization {
+        private final long version;
+        private final Map<Class<?>, Function<String, ?>> mappers;
+        private final Map<Class<?>, AdaptiveReport.Resolution> resolutions;
+
+        private Specialization(
+            long version, @NotNull Map<Class<?>, Function<String, ?>> mappers,
+            @NotNull Map<Class<?>, AdaptiveReport.Resolution> resolutions
+        ) {
+            this.version = version;
+            this.mappers = mappers;
+            this.resolutions = resolutions;
+        }
+    }
+}
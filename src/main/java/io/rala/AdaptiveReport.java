@@ -0,0 +1,121 @@
+package io.rala;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * snapshot of adaptive mapping - all maps are ordered by count descending
+ *
+ * @author rala<br>
+ * <a href="mailto:code@rala.io">code@rala.io</a><br>
+ * <a href="https://www.rala.io">www.rala.io</a>
+ * @see StringMapper#addAdaptiveMapper(int)
+ * @since 1.1.0
+ */
+public final class AdaptiveReport {
+    private final long sampleCount;
+    private final Map<Class<?>, Long> typeCounts;
+    private final boolean specialized;
+    private final Map<Class<?>, Resolution> specializations;
+
+    AdaptiveReport(
+        long sampleCount, @NotNull Map<Class<?>, Long> typeCounts,
+        boolean specialized, @NotNull Map<Class<?>, Resolution> specializations
+    ) {
+        this.sampleCount = sampleCount;
+        this.specialized = specialized;
+        this.typeCounts = Collections.unmodifiableMap(new LinkedHashMap<>(typeCounts));
+        this.specializations = Collections.unmodifiableMap(new LinkedHashMap<>(specializations));
+    }
+
+    /**
+     * @return count of sampled mappings -
+     * mappings of specialized types are not sampled
+     * @since 1.1.0
+     */
+    public long getSampleCount() {
+        return sampleCount;
+    }
+
+    /**
+     * @return sampled mappings per requested type
+     * @since 1.1.0
+     */
+    @NotNull
+    public Map<Class<?>, Long> getTypeCounts() {
+        return typeCounts;
+    }
+
+    /**
+     * @return specialized types and how they were resolved -
+     * empty during warm-up
+     * @since 1.1.0
+     */
+    @NotNull
+    public Map<Class<?>, Resolution> getSpecializations() {
+        return specializations;
+    }
+
+    /**
+     * @return {@code true} if warm-up is done and dispatch is specialized -
+     * also if no type could be specialized
+     * @since 1.1.0
+     */
+    public boolean isSpecialized() {
+        return specialized;
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveReport{" +
+            "sampleCount=" + getSampleCount() +
+            ", typeCounts=" + getTypeCounts() +
+            ", specialized=" + isSpecialized() +
+            ", specializations=" + getSpecializations() +
+            '}';
+    }
+
+    /**
+     * way a type was resolved before it got specialized
+     *
+     * @since 1.1.0
+     */
+    public enum Resolution {
+        /**
+         * built-in type like {@code int} or {@link String}
+         *
+         * @since 1.1.0
+         */
+        PRIMITIVE,
+        /**
+         * enum mapping
+         *
+         * @see StringMapper#addEnumMapper()
+         * @since 1.1.0
+         */
+        ENUM,
+        /**
+         * mapper registered for exactly this type at this instance
+         *
+         * @since 1.1.0
+         */
+        EXACT,
+        /**
+         * mapper of a parent or of a supported type - promoted to an exact entry
+         *
+         * @see StringMapper#isSupported(Class, Class)
+         * @since 1.1.0
+         */
+        FALLBACK,
+        /**
+         * static factory of the type - promoted to an exact entry
+         *
+         * @see StringMapper#addFactoryMapper()
+         * @since 1.1.0
+         */
+        FACTORY
+    }
+}
@@ -0,0 +1,228 @@
+package io.rala;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * parses {@link BigInteger} and {@link BigDecimal} like their string constructors
+ * <p>
+ * values with up to 18 ascii digits and without exponent fit in a {@code long}
+ * and are created by {@code valueOf} - small values are cached -
+ * all other values are passed to the constructors
+ *
+ * @author rala<br>
+ * <a href="mailto:code@rala.io">code@rala.io</a><br>
+ * <a href="https://www.rala.io">www.rala.io</a>
+ * @since 1.1.0
+ */
+public final class BigNumberParser {
+    private static final int MAX_FAST_DIGITS = 18;
+    private static final long NOT_SCANNED = -1;
+    private static final int CACHE_SIZE = 128;
+    private static final int CACHE_SCALES = 3;
+    private static final BigInteger[] BIG_INTEGER_CACHE = new BigInteger[CACHE_SIZE];
+    private static final BigDecimal[][] BIG_DECIMAL_CACHE = new BigDecimal[CACHE_SCALES][CACHE_SIZE];
+    private static final long[] POWERS_OF_TEN = new long[MAX_FAST_DIGITS + 1];
+
+    static {
+        for (int i = 0; i < CACHE_SIZE; i++) {
+            BIG_INTEGER_CACHE[i] = BigInteger.valueOf(i);
+            for (int scale = 0; scale < CACHE_SCALES; scale++)
+                BIG_DECIMAL_CACHE[scale][i] = BigDecimal.valueOf(i, scale);
+        }
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++)
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+
+    private BigNumberParser() {
+    }
+
+    // region parseBigInteger
+
+    /**
+     * @param string string to parse
+     * @return parsed value equal to {@link BigInteger#BigInteger(String)}
+     * @throws NumberFormatException if string is no integer
+     * @see #parseBigInteger(CharSequence, int, int)
+     * @since 1.1.0
+     */
+    @NotNull
+    public static BigInteger parseBigInteger(@NotNull CharSequence string) {
+        return parseBigInteger(string, 0, string.length());
+    }
+
+    /**
+     * @param string string to parse
+     * @param begin  begin index (inclusive)
+     * @param end    end index (exclusive)
+     * @return parsed value equal to {@link BigInteger#BigInteger(String)}
+     * @throws NumberFormatException     if range is no integer
+     * @throws IndexOutOfBoundsException if range is invalid
+     * @since 1.1.0
+     */
+    @NotNull
+    public static BigInteger parseBigInteger(@NotNull CharSequence string, int begin, int end) {
+        checkRange(string, begin, end);
+        int index = begin;
+        boolean negative = false;
+        if (index < end && (string.charAt(index) == '-' || string.charAt(index) == '+')) {
+            negative = string.charAt(index) == '-';
+            index++;
+        }
+        if (0 < end - index && end - index <= MAX_FAST_DIGITS) {
+            long value = 0;
+            for (; index < end; index++) {
+                char c = string.charAt(index);
+                if (c < '0' || '9' < c) break;
+                value = value * 10 + c - '0';
+            }
+            if (index == end) return !negative && value < CACHE_SIZE ?
+                BIG_INTEGER_CACHE[(int) value] : BigInteger.valueOf(negative ? -value : value);
+        }
+        return new BigInteger(string.subSequence(begin, end).toString());
+    }
+
+    // endregion
+
+    // region parseBigDecimal
+
+    /**
+     * @param string string to parse
+     * @return parsed value equal to {@link BigDecimal#BigDecimal(String)}
+     * @throws NumberFormatException if string is no number
+     * @see #parseBigDecimal(CharSequence, int, int)
+     * @since 1.1.0
+     */
+    @NotNull
+    public static BigDecimal parseBigDecimal(@NotNull CharSequence string) {
+        return parseBigDecimal(string, 0, string.length());
+    }
+
+    /**
+     * @param string string to parse
+     * @param begin  begin index (inclusive)
+     * @param end    end index (exclusive)
+     * @return parsed value equal to {@link BigDecimal#BigDecimal(String)}
+     * (including its scale)
+     * @throws NumberFormatException     if range is no number
+     * @throws IndexOutOfBoundsException if range is invalid
+     * @since 1.1.0
+     */
+    @NotNull
+    public static BigDecimal parseBigDecimal(@NotNull CharSequence string, int begin, int end) {
+        checkRange(string, begin, end);
+        long scaled = scan(string, begin, end);
+        if (scaled != NOT_SCANNED) {
+            long unscaled = getScanUnscaled(string, begin, end);
+            int scale = (int) scaled;
+            if (0 <= unscaled && unscaled < CACHE_SIZE && scale < CACHE_SCALES)
+                return BIG_DECIMAL_CACHE[scale][(int) unscaled];
+            return BigDecimal.valueOf(unscaled, scale);
+        }
+        return new BigDecimal(string.subSequence(begin, end).toString());
+    }
+
+    // endregion
+
+    // region parseScaledLong
+
+    /**
+     * parses a fixed-point number without creating an object
+     *
+     * @param string string to parse
+     * @param scale  requested scale - e.g. {@code 2} for cents
+     * @return unscaled value of {@code string} at {@code scale}
+     * @throws NumberFormatException if string is no number
+     * @throws ArithmeticException   if value is not representable
+     *                               at {@code scale} without rounding or out of range
+     * @see #parseScaledLong(CharSequence, int, int, int)
+     * @since 1.1.0
+     */
+    public static long parseScaledLong(@NotNull CharSequence string, int scale) {
+        return parseScaledLong(string, 0, string.length(), scale);
+    }
+
+    /**
+     * parses a fixed-point number without creating an object
+     *
+     * @param string string to parse
+     * @param begin  begin index (inclusive)
+     * @param end    end index (exclusive)
+     * @param scale  requested scale - e.g. {@code 2} for cents
+     * @return unscaled value of range at {@code scale}
+     * @throws NumberFormatException     if range is no number
+     * @throws ArithmeticException       if value is not representable
+     *                                   at {@code scale} without rounding or out of range
+     * @throws IndexOutOfBoundsException if range is invalid
+     * @since 1.1.0
+     */
+    public static long parseScaledLong(@NotNull CharSequence string, int begin, int end, int scale) {
+        checkRange(string, begin, end);
+        long scaled = scan(string, begin, end);
+        if (scaled == NOT_SCANNED)
+            return parseBigDecimal(string, begin, end).setScale(scale).unscaledValue().longValueExact();
+        long unscaled = getScanUnscaled(string, begin, end);
+        int difference = scale - (int) scaled;
+        if (difference == 0 || unscaled == 0) return unscaled;
+        if (difference > 0) {
+            if (difference >= POWERS_OF_TEN.length)
+                throw new ArithmeticException("Overflow");
+            return Math.multiplyExact(unscaled, POWERS_OF_TEN[difference]);
+        }
+        if (-difference >= POWERS_OF_TEN.length || unscaled % POWERS_OF_TEN[-difference] != 0)
+            throw new ArithmeticException("Rounding necessary");
+        return unscaled / POWERS_OF_TEN[-difference];
+    }
+
+    // endregion
+
+    // region scan
+
+    /**
+     * checks for optional sign, ascii digits and optional fraction
+     * with up to {@value #MAX_FAST_DIGITS} digits
+     *
+     * @return scale or {@link #NOT_SCANNED} if constructor has to be used
+     */
+    private static long scan(@NotNull CharSequence string, int begin, int end) {
+        int index = begin;
+        if (index < end && (string.charAt(index) == '-' || string.charAt(index) == '+')) index++;
+        int digits = 0;
+        int scale = -1;
+        for (; index < end; index++) {
+            char c = string.charAt(index);
+            if ('0' <= c && c <= '9') {
+                if (++digits > MAX_FAST_DIGITS) return NOT_SCANNED;
+                if (scale >= 0) scale++;
+            } else if (c == '.' && scale < 0) {
+                scale = 0;
+            } else return NOT_SCANNED;
+        }
+        return digits == 0 ? NOT_SCANNED : Math.max(scale, 0);
+    }
+
+    /**
+     * requires successful {@link #scan(CharSequence, int, int)}
+     */
+    private static long getScanUnscaled(@NotNull CharSequence string, int begin, int end) {
+        boolean negative = string.charAt(begin) == '-';
+        long value = 0;
+        for (int index = begin; index < end; index++) {
+            char c = string.charAt(index);
+            if ('0' <= c && c <= '9') value = value * 10 + c - '0';
+        }
+        return negative ? -value : value;
+    }
+
+    private static void checkRange(@NotNull CharSequence string, int begin, int end) {
+        if (begin < 0 || end < begin || string.length() < end)
+            throw new IndexOutOfBoundsException(
+                "begin " + begin + ", end " + end + ", length " + string.length()
+            );
+    }
+
+    // endregion
+}
@@ -0,0 +1,309 @@
+package io.rala;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.*;
+import java.nio.CharBuffer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * maps composite types like {@code Map<String, Integer>} in a single pass
+ * <p>
+ * each type is resolved once into a tree of converters working on index ranges -
+ * {@code String}, {@code char}, {@code boolean} and integral components
+ * are parsed without creating substrings.
+ * converters are rebuilt if the version of the owning {@link StringMapper} changes
+ *
+ * @since 1.1.0
+ */
+final class CompositeMapper {
+    static final char ENTRY_SEPARATOR = ';';
+    static final char KEY_VALUE_SEPARATOR = '=';
+    static final char ALTERNATIVE_KEY_VALUE_SEPARATOR = ':';
+    static final char COMPONENT_SEPARATOR = ',';
+    private static final MethodType TUPLE_TYPE = MethodType.methodType(Object.class, Object[].class);
+    private final StringMapper stringMapper;
+    private final Map<Type, Map.Entry<Long, Converter>> cache = new ConcurrentHashMap<>();
+
+    CompositeMapper(@NotNull StringMapper stringMapper) {
+        this.stringMapper = stringMapper;
+    }
+
+    /**
+     * @param string string to map
+     * @param type   type to get object from
+     * @return converted object
+     * @throws IllegalArgumentException if {@code type} or a component is not supported
+     *                                  or {@code string} is malformed
+     */
+    @Nullable
+    Object map(@NotNull String string, @NotNull Type type) {
+        long version = stringMapper.getVersion();
+        Map.Entry<Long, Converter> entry = cache.get(type);
+        if (entry == null || entry.getKey() != version) {
+            entry = Map.entry(version, create(type, new HashSet<>()));
+            cache.put(type, entry);
+        }
+        return entry.getValue().convert(string, 0, string.length());
+    }
+
+    // region create
+
+    /**
+     * @param type     type to create converter for
+     * @param building tuple types currently created - used to detect cycles
+     */
+    @NotNull
+    private Converter create(@NotNull Type type, @NotNull Set<Class<?>> building) {
+        if (type instanceof WildcardType)
+            return create(((WildcardType) type).getUpperBounds()[0], building);
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterized = (ParameterizedType) type;
+            Class<?> raw = (Class<?>) parameterized.getRawType();
+            Type[] arguments = parameterized.getActualTypeArguments();
+            if (raw == Optional.class)
+                return createOptional(create(arguments[0], building));
+            if (raw == Map.Entry.class)
+                return createEntry(create(arguments[0], building), create(arguments[1], building));
+            if (raw == Map.class)
+                return createMap(create(arguments[0], building), create(arguments[1], building));
+            return create(raw, building);
+        }
+        if (!(type instanceof Class))
+            throw new IllegalArgumentException(type.getTypeName());
+        Class<?> clazz = (Class<?>) type;
+        if (clazz == Optional.class)
+            return createOptional(create(String.class, building));
+        if (clazz == Map.Entry.class)
+            return createEntry(create(String.class, building), create(String.class, building));
+        if (clazz == Map.class)
+            return createMap(create(String.class, building), create(String.class, building));
+        return createLeaf(clazz, building);
+    }
+
+    @NotNull
+    private Converter createOptional(@NotNull Converter value) {
+        return (string, begin, end) -> begin == end || isNull(string, begin, end) ?
+            Optional.empty() : Optional.ofNullable(value.convert(string, begin, end));
+    }
+
+    @NotNull
+    private Converter createEntry(@NotNull Converter key, @NotNull Converter value) {
+        return (string, begin, end) -> {
+            if (isNull(string, begin, end)) return null;
+            return toEntry(string, begin, end, key, value);
+        };
+    }
+
+    @NotNull
+    private Converter createMap(@NotNull Converter key, @NotNull Converter value) {
+        return (string, begin, end) -> {
+            if (isNull(string, begin, end)) return null;
+            Map<Object, Object> map = new LinkedHashMap<>();
+            int entryBegin = begin;
+            while (entryBegin < end) {
+                int entryEnd = indexOf(string, ENTRY_SEPARATOR, entryBegin, end);
+                int trimmedBegin = skipWhitespace(string, entryBegin, entryEnd);
+                int trimmedEnd = trimEnd(string, trimmedBegin, entryEnd);
+                if (trimmedBegin < trimmedEnd) {
+                    Map.Entry<Object, Object> entry = toEntry(string, trimmedBegin, trimmedEnd, key, value);
+                    map.put(entry.getKey(), entry.getValue());
+                }
+                entryBegin = entryEnd + 1;
+            }
+            return map;
+        };
+    }
+
+    @NotNull
+    private Converter createLeaf(@NotNull Class<?> type, @NotNull Set<Class<?>> building) {
+        if (stringMapper.isMapPrimitiveOverridden())
+            return (string, begin, end) -> stringMapper.map(string.substring(begin, end), type);
+        Converter converter = stringMapper.getBuiltInChain(type) == null ?
+            createRangeLeaf(type, stringMapper.getDecimalParser()) : null;
+        if (converter == null) {
+            Map.Entry<AdaptiveReport.Resolution, Function<String, ?>> resolved = stringMapper.resolve(type);
+            if (resolved != null) {
+                Function<String, ?> mapper = resolved.getValue();
+                converter = (string, begin, end) -> mapper.apply(string.substring(begin, end));
+            } else converter = createTuple(type, building);
+        }
+        if (type.isPrimitive()) return converter;
+        Converter nonNull = converter;
+        return (string, begin, end) -> isNull(string, begin, end) ?
+            null : nonNull.convert(string, begin, end);
+    }
+
+    /**
+     * @return converter of built-in types which do not require a substring -
+     * {@code null} otherwise
+     */
+    @Nullable
+    private static Converter createRangeLeaf(@NotNull Class<?> type, @Nullable DecimalParser parser) {
+        Class<?> objectType = StringMapper.getObjectInstance(type);
+        if (objectType == String.class)
+            return String::substring;
+        if (objectType == Character.class)
+            return (string, begin, end) -> {
+                if (end - begin == 1) return string.charAt(begin);
+                throw new IllegalArgumentException(
+                    "String is no character: " + string.substring(begin, end)
+                );
+            };
+        if (objectType == Boolean.class)
+            return (string, begin, end) ->
+                end - begin == 4 && string.regionMatches(true, begin, "true", 0, 4);
+        if (objectType == Byte.class)
+            return (string, begin, end) ->
+                (byte) parseLong(string, begin, end, parser, Byte.MIN_VALUE, Byte.MAX_VALUE);
+        if (objectType == Short.class)
+            return (string, begin, end) ->
+                (short) parseLong(string, begin, end, parser, Short.MIN_VALUE, Short.MAX_VALUE);
+        if (objectType == Integer.class)
+            return (string, begin, end) ->
+                (int) parseLong(string, begin, end, parser, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        if (objectType == Long.class)
+            return (string, begin, end) ->
+                parseLong(string, begin, end, parser, Long.MIN_VALUE, Long.MAX_VALUE);
+        return null;
+    }
+
+    /**
+     * creates converter for classes with a single public constructor
+     * taking multiple components separated by {@value #COMPONENT_SEPARATOR} -
+     * the constructor is resolved once into a {@link MethodHandle}
+     *
+     * @throws IllegalArgumentException if {@code type} is a component of itself
+     */
+    @NotNull
+    private Converter createTuple(@NotNull Class<?> type, @NotNull Set<Class<?>> building) {
+        Constructor<?>[] constructors = type.getConstructors();
+        if (Modifier.isAbstract(type.getModifiers()) || constructors.length != 1 ||
+            constructors[0].getParameterCount() < 2)
+            return (string, begin, end) -> {
+                throw new IllegalArgumentException(type.getName());
+            };
+        Constructor<?> constructor = constructors[0];
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.publicLookup().unreflectConstructor(constructor)
+                .asSpreader(Object[].class, constructor.getParameterCount()).asType(TUPLE_TYPE);
+        } catch (IllegalAccessException e) {
+            return (string, begin, end) -> {
+                throw new IllegalArgumentException(type.getName(), e);
+            };
+        }
+        Type[] parameterTypes = constructor.getGenericParameterTypes();
+        Converter[] components = new Converter[parameterTypes.length];
+        if (!building.add(type))
+            throw new IllegalArgumentException(type.getName());
+        for (int i = 0; i < components.length; i++)
+            components[i] = create(parameterTypes[i], building);
+        building.remove(type);
+        return (string, begin, end) -> {
+            Object[] arguments = new Object[components.length];
+            int componentBegin = begin;
+            for (int i = 0; i < components.length; i++) {
+                int componentEnd = i == components.length - 1 ?
+                    end : indexOf(string, COMPONENT_SEPARATOR, componentBegin, end);
+                if (componentEnd == end && i < components.length - 1)
+                    throw new IllegalArgumentException(
+                        "expected " + components.length + " components: " + string.substring(begin, end)
+                    );
+                int trimmedBegin = skipWhitespace(string, componentBegin, componentEnd);
+                int trimmedEnd = trimEnd(string, trimmedBegin, componentEnd);
+                arguments[i] = components[i].convert(string, trimmedBegin, trimmedEnd);
+                componentBegin = componentEnd + 1;
+            }
+            return newInstance(handle, arguments);
+        };
+    }
+
+    // endregion
+
+    // region tokenize
+
+    /**
+     * splits at first {@value #KEY_VALUE_SEPARATOR} -
+     * or first {@value #ALTERNATIVE_KEY_VALUE_SEPARATOR} if there is none
+     */
+    @NotNull
+    private static Map.Entry<Object, Object> toEntry(
+        @NotNull String string, int begin, int end, @NotNull Converter key, @NotNull Converter value
+    ) {
+        int separator = indexOf(string, KEY_VALUE_SEPARATOR, begin, end);
+        if (separator == end) separator = indexOf(string, ALTERNATIVE_KEY_VALUE_SEPARATOR, begin, end);
+        if (separator == end)
+            throw new IllegalArgumentException("no key value separator: " + string.substring(begin, end));
+        int keyEnd = trimEnd(string, begin, separator);
+        int valueBegin = skipWhitespace(string, separator + 1, end);
+        return new AbstractMap.SimpleImmutableEntry<>(
+            key.convert(string, begin, keyEnd),
+            value.convert(string, valueBegin, end)
+        );
+    }
+
+    /**
+     * @return index of {@code c} or {@code end} if there is none
+     */
+    private static int indexOf(@NotNull String string, char c, int begin, int end) {
+        for (int i = begin; i < end; i++)
+            if (string.charAt(i) == c) return i;
+        return end;
+    }
+
+    private static int skipWhitespace(@NotNull String string, int begin, int end) {
+        while (begin < end && Character.isWhitespace(string.charAt(begin))) begin++;
+        return begin;
+    }
+
+    private static int trimEnd(@NotNull String string, int begin, int end) {
+        while (begin < end && Character.isWhitespace(string.charAt(end - 1))) end--;
+        return end;
+    }
+
+    private static boolean isNull(@NotNull String string, int begin, int end) {
+        return end - begin == 4 && string.startsWith("null", begin);
+    }
+
+    // endregion
+
+    // region parse
+
+    private static long parseLong(
+        @NotNull String string, int begin, int end, @Nullable DecimalParser parser, long min, long max
+    ) {
+        return parser == null ?
+            Numbers.decode(string, begin, end, min, max) :
+            StringMapper.parseLong(parser, CharBuffer.wrap(string, begin, end), min, max);
+    }
+
+    /**
+     * @param handle    constructor taking spread {@code arguments}
+     * @param arguments converted components
+     */
+    @NotNull
+    private static Object newInstance(@NotNull MethodHandle handle, @NotNull Object[] arguments) {
+        try {
+            return (Object) handle.invokeExact(arguments);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalArgumentException(t);
+        }
+    }
+
+    // endregion
+
+    @FunctionalInterface
+    private interface Converter {
+        @Nullable
+        Object convert(@NotNull String string, int begin, int end);
+    }
+}
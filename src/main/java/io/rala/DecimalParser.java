@@ -0,0 +1,352 @@
+package io.rala;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * parses locale specific decimals like {@code "1.234,56"}
+ * without creating a {@link java.text.DecimalFormat}
+ * <p>
+ * grouping separators are allowed between digits in front of the decimal separator
+ * (group sizes are not checked),
+ * exponents, currency symbols and percent signs are not supported
+ * <p>
+ * instances are immutable and thread-safe
+ *
+ * @author rala<br>
+ * <a href="mailto:code@rala.io">code@rala.io</a><br>
+ * <a href="https://www.rala.io">www.rala.io</a>
+ * @since 1.1.0
+ */
+public final class DecimalParser {
+    private static final Map<Locale, DecimalParser> CACHE = new ConcurrentHashMap<>();
+    private static final long MULTIPLY_MIN = Long.MIN_VALUE / 10;
+    private static final long DOUBLE_EXACT_MAX = 1L << 53;
+    private static final long FLOAT_EXACT_MAX = 1L << 24;
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final float[] FLOAT_POWERS_OF_TEN = {
+        1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+
+    private final char decimalSeparator;
+    private final char groupingSeparator;
+    private final char minusSign;
+
+    /**
+     * @param decimalSeparator  separator between integer and fraction part
+     * @param groupingSeparator separator between digit groups
+     * @param minusSign         additional minus sign - {@code '-'} is always supported
+     * @throws IllegalArgumentException if separators are equal or digits
+     * @since 1.1.0
+     */
+    public DecimalParser(char decimalSeparator, char groupingSeparator, char minusSign) {
+        if (decimalSeparator == groupingSeparator)
+            throw new IllegalArgumentException("separators are equal: " + decimalSeparator);
+        if (Character.isDigit(decimalSeparator) || Character.isDigit(groupingSeparator))
+            throw new IllegalArgumentException("separators must not be digits");
+        this.decimalSeparator = decimalSeparator;
+        this.groupingSeparator = groupingSeparator;
+        this.minusSign = minusSign;
+    }
+
+    // region parse
+
+    /**
+     * @param string string to parse
+     * @return parsed value
+     * @throws NumberFormatException if string is no integer or out of range
+     * @since 1.1.0
+     */
+    public long parseLong(@NotNull CharSequence string) {
+        Scan scan = scan(string);
+        if (scan.scale != 0 || scan.overflow)
+            throw newNumberFormatException(string);
+        return scan.getUnscaled();
+    }
+
+    /**
+     * @param string string to parse
+     * @return parsed value
+     * @throws NumberFormatException if string is no number
+     * @since 1.1.0
+     */
+    public float parseFloat(@NotNull CharSequence string) {
+        Scan scan = scan(string);
+        if (!scan.overflow && scan.scale < FLOAT_POWERS_OF_TEN.length &&
+            scan.negativeUnscaled >= -FLOAT_EXACT_MAX) {
+            float value = -scan.negativeUnscaled / FLOAT_POWERS_OF_TEN[scan.scale];
+            return scan.negative ? -value : value;
+        }
+        return Float.parseFloat(normalize(string));
+    }
+
+    /**
+     * @param string string to parse
+     * @return parsed value
+     * @throws NumberFormatException if string is no number
+     * @since 1.1.0
+     */
+    public double parseDouble(@NotNull CharSequence string) {
+        Scan scan = scan(string);
+        if (!scan.overflow && scan.scale < DOUBLE_POWERS_OF_TEN.length &&
+            scan.negativeUnscaled >= -DOUBLE_EXACT_MAX) {
+            double value = -scan.negativeUnscaled / DOUBLE_POWERS_OF_TEN[scan.scale];
+            return scan.negative ? -value : value;
+        }
+        return Double.parseDouble(normalize(string));
+    }
+
+    /**
+     * @param string string to parse
+     * @return parsed value
+     * @throws NumberFormatException if string is no integer
+     * @since 1.1.0
+     */
+    @NotNull
+    public BigInteger parseBigInteger(@NotNull CharSequence string) {
+        Scan scan = scan(string);
+        if (scan.scale != 0)
+            throw newNumberFormatException(string);
+        return scan.overflow ?
+            new BigInteger(normalize(string)) :
+            BigInteger.valueOf(scan.getUnscaled());
+    }
+
+    /**
+     * @param string string to parse
+     * @return parsed value - scale is equal to count of fraction digits
+     * @throws NumberFormatException if string is no number
+     * @since 1.1.0
+     */
+    @NotNull
+    public BigDecimal parseBigDecimal(@NotNull CharSequence string) {
+        Scan scan = scan(string);
+        return scan.overflow ?
+            new BigDecimal(normalize(string)) :
+            BigDecimal.valueOf(scan.getUnscaled(), scan.scale);
+    }
+
+    // endregion
+
+    // region validate
+
+    /**
+     * @param string string to check
+     * @return {@code true} if parse methods for decimals accept string
+     */
+    boolean isDecimal(@NotNull CharSequence string) {
+        return tryScan(string) != null;
+    }
+
+    /**
+     * @param string string to check
+     * @return {@code true} if {@link #parseBigInteger(CharSequence)} accepts string
+     */
+    boolean isBigInteger(@NotNull CharSequence string) {
+        Scan scan = tryScan(string);
+        return scan != null && scan.scale == 0;
+    }
+
+    /**
+     * @param string string to check
+     * @param min    minimum allowed value
+     * @param max    maximum allowed value
+     * @return {@code true} if {@link #parseLong(CharSequence)} accepts string
+     * and value is in range
+     */
+    boolean isLong(@NotNull CharSequence string, long min, long max) {
+        Scan scan = tryScan(string);
+        if (scan == null || scan.scale != 0 || scan.overflow) return false;
+        long value = scan.getUnscaled();
+        return min <= value && value <= max;
+    }
+
+    // endregion
+
+    // region getter
+
+    /**
+     * @return separator between integer and fraction part
+     * @since 1.1.0
+     */
+    public char getDecimalSeparator() {
+        return decimalSeparator;
+    }
+
+    /**
+     * @return separator between digit groups
+     * @since 1.1.0
+     */
+    public char getGroupingSeparator() {
+        return groupingSeparator;
+    }
+
+    /**
+     * @return additional minus sign
+     * @since 1.1.0
+     */
+    public char getMinusSign() {
+        return minusSign;
+    }
+
+    // endregion
+
+    // region override
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DecimalParser)) return false;
+        DecimalParser that = (DecimalParser) o;
+        return getDecimalSeparator() == that.getDecimalSeparator() &&
+            getGroupingSeparator() == that.getGroupingSeparator() &&
+            getMinusSign() == that.getMinusSign();
+    }
+
+    @Override
+    public int hashCode() {
+        return (getDecimalSeparator() * 31 + getGroupingSeparator()) * 31 + getMinusSign();
+    }
+
+    @Override
+    public String toString() {
+        return "DecimalParser{" +
+            "decimalSeparator=" + getDecimalSeparator() +
+            ", groupingSeparator=" + getGroupingSeparator() +
+            ", minusSign=" + getMinusSign() +
+            '}';
+    }
+
+    // endregion
+
+    // region static of
+
+    /**
+     * @param locale locale to get symbols from
+     * @return cached parser using symbols of {@code locale}
+     * @since 1.1.0
+     */
+    @NotNull
+    public static DecimalParser of(@NotNull Locale locale) {
+        return CACHE.computeIfAbsent(locale, l -> {
+            DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(l);
+            return new DecimalParser(
+                symbols.getDecimalSeparator(),
+                symbols.getGroupingSeparator(),
+                symbols.getMinusSign()
+            );
+        });
+    }
+
+    // endregion
+
+    // region scan
+
+    @NotNull
+    private Scan scan(@NotNull CharSequence string) {
+        Scan scan = tryScan(string);
+        if (scan == null) throw newNumberFormatException(string);
+        return scan;
+    }
+
+    /**
+     * scans string once - unscaled value is accumulated negative
+     * to support {@link Long#MIN_VALUE}
+     * <p>
+     * grouping separators have to be surrounded by digits
+     *
+     * @return scan result or {@code null} if string is no number
+     */
+    @Nullable
+    private Scan tryScan(@NotNull CharSequence string) {
+        Scan scan = new Scan();
+        int length = string.length();
+        int index = 0;
+        if (length > 0 && isSign(string.charAt(0))) {
+            scan.negative = string.charAt(0) != '+';
+            index++;
+        }
+        boolean fraction = false;
+        boolean grouping = false;
+        int digits = 0;
+        for (; index < length; index++) {
+            char c = string.charAt(index);
+            int digit = Character.digit(c, 10);
+            if (digit >= 0) {
+                digits++;
+                grouping = false;
+                if (fraction) scan.scale++;
+                if (scan.overflow) continue;
+                if (scan.negativeUnscaled < MULTIPLY_MIN) {
+                    scan.overflow = true;
+                    continue;
+                }
+                long value = scan.negativeUnscaled * 10;
+                if (value < Long.MIN_VALUE + digit) scan.overflow = true;
+                else scan.negativeUnscaled = value - digit;
+            } else if (c == decimalSeparator && !fraction && !grouping) {
+                fraction = true;
+            } else if (!fraction && isGroupingSeparator(c) && digits > 0 && !grouping) {
+                grouping = true;
+            } else return null;
+        }
+        if (digits == 0 || grouping) return null;
+        if (!scan.negative && scan.negativeUnscaled == Long.MIN_VALUE)
+            scan.overflow = true;
+        return scan;
+    }
+
+    /**
+     * @return string in format of {@link BigDecimal#BigDecimal(String)}
+     */
+    @NotNull
+    private String normalize(@NotNull CharSequence string) {
+        StringBuilder builder = new StringBuilder(string.length());
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            int digit = Character.digit(c, 10);
+            if (digit >= 0) builder.append((char) ('0' + digit));
+            else if (c == decimalSeparator) builder.append('.');
+            else if (i == 0 && isSign(c)) builder.append(c == '+' ? '+' : '-');
+        }
+        return builder.toString();
+    }
+
+    private boolean isSign(char c) {
+        return c == '-' || c == '+' || c == minusSign;
+    }
+
+    private boolean isGroupingSeparator(char c) {
+        return c == groupingSeparator ||
+            // no-break spaces are often typed as regular ones
+            (c == ' ' && Character.isSpaceChar(groupingSeparator));
+    }
+
+    @NotNull
+    private static NumberFormatException newNumberFormatException(@NotNull CharSequence string) {
+        return new NumberFormatException("For input string: \"" + string + "\"");
+    }
+
+    private static final class Scan {
+        private boolean negative;
+        private long negativeUnscaled;
+        private int scale;
+        private boolean overflow;
+
+        private long getUnscaled() {
+            return negative ? negativeUnscaled : -negativeUnscaled;
+        }
+    }
+
+    // endregion
+}
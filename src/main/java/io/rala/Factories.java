@@ -0,0 +1,78 @@
+package io.rala;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+/**
+ * resolves public static factories like {@code valueOf(String)}
+ * once per class
+ *
+ * @since 1.1.0
+ */
+final class Factories {
+    private static final String[] METHOD_NAMES = {"valueOf", "parse", "of"};
+    private static final Class<?>[] PARAMETER_TYPES = {String.class, CharSequence.class};
+    private static final MethodType MAPPER_TYPE = MethodType.methodType(Object.class, String.class);
+    private static final ClassValue<Function<String, ?>> FACTORY_MAPPERS = new ClassValue<>() {
+        @Override
+        protected Function<String, ?> computeValue(Class<?> type) {
+            return findFactory(type);
+        }
+    };
+
+    private Factories() {
+    }
+
+    /**
+     * @param type type to get factory of
+     * @return cached factory or {@code null} if there is none
+     */
+    @Nullable
+    static Function<String, ?> getFactory(@NotNull Class<?> type) {
+        return FACTORY_MAPPERS.get(type);
+    }
+
+    @Nullable
+    private static Function<String, ?> findFactory(@NotNull Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || !Modifier.isPublic(type.getModifiers()))
+            return null;
+        for (String name : METHOD_NAMES)
+            for (Class<?> parameterType : PARAMETER_TYPES) {
+                Method method;
+                try {
+                    method = type.getMethod(name, parameterType);
+                } catch (NoSuchMethodException e) {
+                    continue;
+                }
+                if (!Modifier.isStatic(method.getModifiers()) ||
+                    !type.isAssignableFrom(method.getReturnType()))
+                    continue;
+                MethodHandle handle;
+                try {
+                    handle = MethodHandles.publicLookup().unreflect(method).asType(MAPPER_TYPE);
+                } catch (IllegalAccessException e) {
+                    continue;
+                }
+                return string -> invoke(handle, string);
+            }
+        return null;
+    }
+
+    @Nullable
+    private static Object invoke(@NotNull MethodHandle handle, @Nullable String string) {
+        try {
+            return (Object) handle.invokeExact(string);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalArgumentException(t);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package io.rala;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * thrown if a line of a file is not mappable
+ *
+ * @author rala<br>
+ * <a href="mailto:code@rala.io">code@rala.io</a><br>
+ * <a href="https://www.rala.io">www.rala.io</a>
+ * @see MappedFileLoader
+ * @since 1.1.0
+ */
+public class LineFormatException extends IllegalArgumentException {
+    private static final long serialVersionUID = 1L;
+    private final long lineNumber;
+
+    /**
+     * @param lineNumber line number starting at {@code 1}
+     * @param cause      failure of mapping
+     * @since 1.1.0
+     */
+    public LineFormatException(long lineNumber, @NotNull RuntimeException cause) {
+        super("line " + lineNumber + ": " + cause.getMessage(), cause);
+        this.lineNumber = lineNumber;
+    }
+
+    /**
+     * @return line number starting at {@code 1}
+     * @since 1.1.0
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+}
@@ -0,0 +1,415 @@
+package io.rala;
+
+import io.rala.sink.DoubleArrayBuilder;
+import io.rala.sink.IntArrayBuilder;
+import io.rala.sink.LongArrayBuilder;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * loads files with one value per line into arrays
+ * <p>
+ * the file is memory mapped and split at line boundaries into chunks
+ * which are mapped in parallel - values keep the order of the file
+ * <p>
+ * lines are separated by {@code \n} or {@code \r\n} and encoded in UTF-8 -
+ * a trailing line separator does not create an empty line.
+ * numbers consisting of ascii characters are mapped directly from the mapped bytes,
+ * all other lines are decoded to a {@link String} first
+ *
+ * @author rala<br>
+ * <a href="mailto:code@rala.io">code@rala.io</a><br>
+ * <a href="https://www.rala.io">www.rala.io</a>
+ * @since 1.1.0
+ */
+public class MappedFileLoader {
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 24;
+    private static final int SEARCH_BUFFER_SIZE = 1 << 13;
+    private static final int DOUBLE_FAST_DIGITS = 15;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private final StringMapper stringMapper;
+    private final int chunkSize;
+
+    /**
+     * creates loader with default chunk size of 16 MiB
+     *
+     * @param stringMapper mapper to use
+     * @since 1.1.0
+     */
+    public MappedFileLoader(@NotNull StringMapper stringMapper) {
+        this(stringMapper, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param stringMapper mapper to use
+     * @param chunkSize    minimal count of bytes mapped in parallel -
+     *                     chunks are extended to the next line separator
+     * @throws IllegalArgumentException if {@code chunkSize} is not positive
+     * @since 1.1.0
+     */
+    public MappedFileLoader(@NotNull StringMapper stringMapper, int chunkSize) {
+        if (chunkSize <= 0)
+            throw new IllegalArgumentException("chunkSize: " + chunkSize);
+        this.stringMapper = stringMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    // region load
+
+    /**
+     * @param path file to load
+     * @return values of all lines
+     * @throws IOException         if file is not readable
+     * @throws LineFormatException if a line is no {@code int} -
+     *                             the first failing line is reported
+     * @see StringMapper#mapToInt(String)
+     * @since 1.1.0
+     */
+    @NotNull
+    public int[] loadInts(@NotNull Path path) throws IOException {
+        List<ChunkResult<IntArrayBuilder>> results = load(path, IntArrayBuilder::new,
+            (builder, line) -> builder.accept(mapToInt(line)));
+        return merge(results, IntArrayBuilder::size, int[]::new, IntArrayBuilder::copyTo);
+    }
+
+    /**
+     * @param path file to load
+     * @return values of all lines
+     * @throws IOException         if file is not readable
+     * @throws LineFormatException if a line is no {@code long} -
+     *                             the first failing line is reported
+     * @see StringMapper#mapToLong(String)
+     * @since 1.1.0
+     */
+    @NotNull
+    public long[] loadLongs(@NotNull Path path) throws IOException {
+        List<ChunkResult<LongArrayBuilder>> results = load(path, LongArrayBuilder::new,
+            (builder, line) -> builder.accept(mapToLong(line)));
+        return merge(results, LongArrayBuilder::size, long[]::new, LongArrayBuilder::copyTo);
+    }
+
+    /**
+     * @param path file to load
+     * @return values of all lines
+     * @throws IOException         if file is not readable
+     * @throws LineFormatException if a line is no {@code double} -
+     *                             the first failing line is reported
+     * @see StringMapper#mapToDouble(String)
+     * @since 1.1.0
+     */
+    @NotNull
+    public double[] loadDoubles(@NotNull Path path) throws IOException {
+        List<ChunkResult<DoubleArrayBuilder>> results = load(path, DoubleArrayBuilder::new,
+            (builder, line) -> builder.accept(mapToDouble(line)));
+        return merge(results, DoubleArrayBuilder::size, double[]::new, DoubleArrayBuilder::copyTo);
+    }
+
+    /**
+     * @param path file to load
+     * @param type type of values - primitive types are not supported
+     * @param <T>  requested type
+     * @return values of all lines
+     * @throws IOException              if file is not readable
+     * @throws IllegalArgumentException if {@code type} is primitive
+     * @throws LineFormatException      if a line is not mappable -
+     *                                  the first failing line is reported
+     * @see StringMapper#map(String, Class)
+     * @since 1.1.0
+     */
+    @NotNull
+    public <T> T[] load(@NotNull Path path, @NotNull Class<T> type) throws IOException {
+        if (type.isPrimitive())
+            throw new IllegalArgumentException("primitive type: " + type.getName());
+        List<ChunkResult<List<T>>> results = load(path, ArrayList::new,
+            (list, line) -> list.add(stringMapper.map(line.toString(), type)));
+        //noinspection unchecked
+        return merge(results, List::size, length -> (T[]) Array.newInstance(type, length),
+            (list, array, offset) -> {
+                for (T value : list) array[offset++] = value;
+            });
+    }
+
+    // endregion
+
+    // region map
+
+    private int mapToInt(@NotNull Line line) {
+        if (!line.isAscii() || stringMapper.getBuiltInChain(int.class) != null)
+            return stringMapper.mapToInt(line.toString());
+        DecimalParser parser = stringMapper.getDecimalParser();
+        return (int) (parser == null ?
+            Numbers.decode(line, 0, line.length(), Integer.MIN_VALUE, Integer.MAX_VALUE) :
+            StringMapper.parseLong(parser, line, Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+
+    private long mapToLong(@NotNull Line line) {
+        if (!line.isAscii() || stringMapper.getBuiltInChain(long.class) != null)
+            return stringMapper.mapToLong(line.toString());
+        DecimalParser parser = stringMapper.getDecimalParser();
+        return parser == null ?
+            Numbers.decode(line, 0, line.length(), Long.MIN_VALUE, Long.MAX_VALUE) :
+            parser.parseLong(line);
+    }
+
+    private double mapToDouble(@NotNull Line line) {
+        if (!line.isAscii() || stringMapper.getBuiltInChain(double.class) != null)
+            return stringMapper.mapToDouble(line.toString());
+        DecimalParser parser = stringMapper.getDecimalParser();
+        if (parser != null) return parser.parseDouble(line);
+        double value = parseSimpleDouble(line);
+        return Double.isNaN(value) ? Double.parseDouble(line.toString()) : value;
+    }
+
+    /**
+     * parses optional sign, digits and optional fraction
+     * if value and power of ten are exact doubles - result is correctly rounded
+     *
+     * @return parsed value or {@link Double#NaN} if {@link Double#parseDouble(String)} is required
+     */
+    private static double parseSimpleDouble(@NotNull Line line) {
+        int length = line.length();
+        int index = 0;
+        boolean negative = false;
+        if (index < length && (line.charAt(index) == '-' || line.charAt(index) == '+')) {
+            negative = line.charAt(index) == '-';
+            index++;
+        }
+        long value = 0;
+        int digits = 0;
+        int scale = -1;
+        for (; index < length; index++) {
+            char c = line.charAt(index);
+            if ('0' <= c && c <= '9') {
+                if (++digits > DOUBLE_FAST_DIGITS) return Double.NaN;
+                value = value * 10 + c - '0';
+                if (scale >= 0) scale++;
+            } else if (c == '.' && scale < 0) {
+                scale = 0;
+            } else return Double.NaN;
+        }
+        if (digits == 0 || scale >= POWERS_OF_TEN.length) return Double.NaN;
+        double result = value / POWERS_OF_TEN[Math.max(scale, 0)];
+        return negative ? -result : result;
+    }
+
+    // endregion
+
+    // region chunks
+
+    @NotNull
+    private <B> List<ChunkResult<B>> load(
+        @NotNull Path path, @NotNull Supplier<B> builderFactory, @NotNull LineMapper<B> lineMapper
+    ) throws IOException {
+        List<ChunkResult<B>> results;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            List<long[]> chunks = split(channel);
+            try {
+                results = chunks.parallelStream()
+                    .map(chunk -> mapChunk(channel, chunk[0], chunk[1], builderFactory.get(), lineMapper))
+                    .collect(Collectors.toCollection(ArrayList::new));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+        long lines = 0;
+        for (ChunkResult<B> result : results) {
+            if (result.failure != null)
+                throw new LineFormatException(lines + result.lines + 1, result.failure);
+            lines += result.lines;
+        }
+        return results;
+    }
+
+    /**
+     * @return {@code [begin, end)} of all chunks - each ends after a line separator
+     * or at the end of the file
+     */
+    @NotNull
+    private List<long[]> split(@NotNull FileChannel channel) throws IOException {
+        List<long[]> chunks = new ArrayList<>();
+        long size = channel.size();
+        ByteBuffer buffer = ByteBuffer.allocate(SEARCH_BUFFER_SIZE);
+        long begin = 0;
+        while (begin < size) {
+            long end = begin + chunkSize < size ? findLineEnd(channel, begin + chunkSize, size, buffer) : size;
+            if (end - begin > Integer.MAX_VALUE)
+                throw new IOException("line exceeds " + Integer.MAX_VALUE + " bytes at byte " + begin);
+            chunks.add(new long[]{begin, end});
+            begin = end;
+        }
+        return chunks;
+    }
+
+    /**
+     * @return position after the next {@code \n} starting at {@code position - 1}
+     * or {@code size} if there is none
+     */
+    private static long findLineEnd(
+        @NotNull FileChannel channel, long position, long size, @NotNull ByteBuffer buffer
+    ) throws IOException {
+        long current = position - 1;
+        while (current < size) {
+            buffer.clear();
+            int read = channel.read(buffer, current);
+            if (read <= 0) break;
+            for (int i = 0; i < read; i++)
+                if (buffer.get(i) == '\n')
+                    return current + i + 1;
+            current += read;
+        }
+        return size;
+    }
+
+    @NotNull
+    private static <B> ChunkResult<B> mapChunk(
+        @NotNull FileChannel channel, long begin, long end,
+        @NotNull B builder, @NotNull LineMapper<B> lineMapper
+    ) {
+        ByteBuffer buffer;
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, begin, end - begin);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Line line = new Line(buffer);
+        int limit = buffer.limit();
+        long lines = 0;
+        int lineBegin = 0;
+        while (lineBegin < limit) {
+            int lineEnd = lineBegin;
+            while (lineEnd < limit && buffer.get(lineEnd) != '\n') lineEnd++;
+            int next = lineEnd + 1;
+            if (lineBegin < lineEnd && buffer.get(lineEnd - 1) == '\r') lineEnd--;
+            line.set(lineBegin, lineEnd);
+            try {
+                lineMapper.map(builder, line);
+            } catch (RuntimeException e) {
+                return new ChunkResult<>(builder, lines, e);
+            }
+            lines++;
+            lineBegin = next;
+        }
+        return new ChunkResult<>(builder, lines, null);
+    }
+
+    /**
+     * copies values of all chunks in order into a new array -
+     * each builder is released once it is copied
+     */
+    @NotNull
+    private static <B, A> A merge(
+        @NotNull List<ChunkResult<B>> results, @NotNull ToIntFunction<B> size,
+        @NotNull IntFunction<A> arrayFactory, @NotNull ChunkCopier<B, A> copier
+    ) {
+        long total = 0;
+        for (ChunkResult<B> result : results) total += size.applyAsInt(result.builder);
+        if (total > Integer.MAX_VALUE - 8)
+            throw new IllegalArgumentException("too many lines: " + total);
+        A values = arrayFactory.apply((int) total);
+        int offset = 0;
+        for (ListIterator<ChunkResult<B>> iterator = results.listIterator(); iterator.hasNext(); ) {
+            B builder = iterator.next().builder;
+            iterator.set(null);
+            copier.copy(builder, values, offset);
+            offset += size.applyAsInt(builder);
+        }
+        return values;
+    }
+
+    @FunctionalInterface
+    private interface LineMapper<B> {
+        void map(@NotNull B builder, @NotNull Line line);
+    }
+
+    @FunctionalInterface
+    private interface ChunkCopier<B, A> {
+        void copy(@NotNull B builder, @NotNull A array, int offset);
+    }
+
+    private static final class ChunkResult<B> {
+        private final B builder;
+        private final long lines;
+        private final RuntimeException failure;
+
+        private ChunkResult(@NotNull B builder, long lines, RuntimeException failure) {
+            this.builder = builder;
+            this.lines = lines;
+            this.failure = failure;
+        }
+    }
+
+    // endregion
+
+    // region line
+
+    /**
+     * reusable view of a line in a mapped buffer -
+     * {@link #charAt(int)} is only valid for ascii lines
+     */
+    private static final class Line implements CharSequence {
+        private final ByteBuffer buffer;
+        private int begin;
+        private int end;
+        private boolean ascii;
+
+        private Line(@NotNull ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        private void set(int begin, int end) {
+            this.begin = begin;
+            this.end = end;
+            ascii = true;
+            for (int i = begin; i < end && ascii; i++)
+                ascii = buffer.get(i) >= 0;
+        }
+
+        private boolean isAscii() {
+            return ascii;
+        }
+
+        @Override
+        public int length() {
+            return end - begin;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) buffer.get(begin + index);
+        }
+
+        @NotNull
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString().substring(start, end);
+        }
+
+        @NotNull
+        @Override
+        public String toString() {
+            byte[] bytes = new byte[length()];
+            for (int i = 0; i < bytes.length; i++) bytes[i] = buffer.get(begin + i);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    // endregion
+}
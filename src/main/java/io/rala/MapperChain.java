@@ -0,0 +1,115 @@
+package io.rala;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * ordered chain of candidate mappers for a single type
+ * <p>
+ * the candidate which succeeded last is remembered and tried first
+ * on the next call, so inputs sharing a format only pay for
+ * failing candidates when the format changes
+ * <p>
+ * a candidate fails if it throws a {@link RuntimeException} or returns {@code null}
+ * <p>
+ * chains are thread-safe -
+ * use one chain per source/column if formats differ between them
+ *
+ * @param <T> result type
+ * @author rala<br>
+ * <a href="mailto:code@rala.io">code@rala.io</a><br>
+ * <a href="https://www.rala.io">www.rala.io</a>
+ * @since 1.1.0
+ */
+public final class MapperChain<T> implements Function<String, T> {
+    private final List<Function<String, ? extends T>> candidates;
+    private volatile int lastSuccessfulIndex = 0;
+
+    /**
+     * @param candidates candidate mappers in order of preference
+     * @throws IllegalArgumentException if {@code candidates} is empty
+     * @throws NullPointerException     if a candidate is {@code null}
+     * @since 1.1.0
+     */
+    public MapperChain(@NotNull List<? extends Function<String, ? extends T>> candidates) {
+        if (candidates.isEmpty())
+            throw new IllegalArgumentException("no candidates");
+        List<Function<String, ? extends T>> list = new ArrayList<>(candidates.size());
+        for (Function<String, ? extends T> candidate : candidates)
+            list.add(Objects.requireNonNull(candidate));
+        this.candidates = Collections.unmodifiableList(list);
+    }
+
+    /**
+     * @param string string to map
+     * @return result of first successful candidate
+     * (starting with the last successful one)
+     * @throws IllegalArgumentException if no candidate was successful -
+     *                                  failures of candidates are suppressed
+     * @since 1.1.0
+     */
+    @Override
+    @NotNull
+    public T apply(@Nullable String string) {
+        int size = candidates.size();
+        int start = lastSuccessfulIndex;
+        IllegalArgumentException exception = null;
+        for (int i = 0; i < size; i++) {
+            int index = (start + i) % size;
+            T result;
+            try {
+                result = candidates.get(index).apply(string);
+            } catch (RuntimeException e) {
+                if (exception == null)
+                    exception = new IllegalArgumentException("no candidate applicable: " + string);
+                exception.addSuppressed(e);
+                continue;
+            }
+            if (result == null) continue;
+            if (index != start) lastSuccessfulIndex = index;
+            return result;
+        }
+        throw exception != null ? exception :
+            new IllegalArgumentException("no candidate applicable: " + string);
+    }
+
+    /**
+     * @return new chain with same candidates but without remembered state
+     * @since 1.1.0
+     */
+    @NotNull
+    public MapperChain<T> copy() {
+        return new MapperChain<>(candidates);
+    }
+
+    /**
+     * @return candidates in order of preference
+     * @since 1.1.0
+     */
+    @NotNull
+    public List<Function<String, ? extends T>> getCandidates() {
+        return candidates;
+    }
+
+    /**
+     * @return index of candidate which is tried first
+     * @since 1.1.0
+     */
+    public int getLastSuccessfulIndex() {
+        return lastSuccessfulIndex;
+    }
+
+    @Override
+    public String toString() {
+        return "MapperChain{" +
+            "candidates=" + candidates.size() +
+            ", lastSuccessfulIndex=" + lastSuccessfulIndex +
+            '}';
+    }
+}
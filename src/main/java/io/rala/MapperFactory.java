@@ -0,0 +1,25 @@
+package io.rala;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * marks a static factory with a single {@link String} or {@link CharSequence} parameter
+ * <p>
+ * {@link io.rala.processor.MapperFactoryProcessor} creates a {@link MapperRegistration}
+ * for each marked method at compile time -
+ * {@link StringMapper#addFactoryMapper()} registers them without reflection
+ *
+ * @author rala<br>
+ * <a href="mailto:code@rala.io">code@rala.io</a><br>
+ * <a href="https://www.rala.io">www.rala.io</a>
+ * @since 1.1.0
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.METHOD)
+public @interface MapperFactory {
+}
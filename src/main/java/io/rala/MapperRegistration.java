@@ -0,0 +1,32 @@
+package io.rala;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Function;
+
+/**
+ * mapper provided via {@link java.util.ServiceLoader} -
+ * usually generated by {@link io.rala.processor.MapperFactoryProcessor}
+ *
+ * @param <T> requested type
+ * @author rala<br>
+ * <a href="mailto:code@rala.io">code@rala.io</a><br>
+ * <a href="https://www.rala.io">www.rala.io</a>
+ * @see StringMapper#addFactoryMapper()
+ * @since 1.1.0
+ */
+public interface MapperRegistration<T> {
+    /**
+     * @return type of mapper
+     * @since 1.1.0
+     */
+    @NotNull
+    Class<T> getType();
+
+    /**
+     * @return mapper of type
+     * @since 1.1.0
+     */
+    @NotNull
+    Function<String, ? extends T> getMapper();
+}
@@ -0,0 +1,69 @@
+package io.rala;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * number parsing on ranges of {@link CharSequence}s
+ * without creating substrings or wrapper objects
+ *
+ * @since 1.1.0
+ */
+final class Numbers {
+    private Numbers() {
+    }
+
+    /**
+     * equivalent to {@link Long#decode(String)} and its variants
+     *
+     * @param string string to decode
+     * @param begin  begin index (inclusive)
+     * @param end    end index (exclusive)
+     * @param min    minimum allowed value
+     * @param max    maximum allowed value
+     * @return decoded value
+     * @throws NumberFormatException if range is no number or out of range
+     */
+    static long decode(@NotNull CharSequence string, int begin, int end, long min, long max) {
+        if (begin == end) throw new NumberFormatException("Zero length string");
+        int index = begin;
+        boolean negative = false;
+        char first = string.charAt(index);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            index++;
+        }
+        int radix = 10;
+        if (startsWith(string, index, end, '0') && (startsWith(string, index + 1, end, 'x') ||
+            startsWith(string, index + 1, end, 'X'))) {
+            index += 2;
+            radix = 16;
+        } else if (startsWith(string, index, end, '#')) {
+            index++;
+            radix = 16;
+        } else if (startsWith(string, index, end, '0') && index + 1 < end) {
+            index++;
+            radix = 8;
+        }
+        if (index < end && (string.charAt(index) == '-' || string.charAt(index) == '+'))
+            throw new NumberFormatException("Sign character in wrong position");
+        if (index == end)
+            throw newNumberFormatException(string, begin, end);
+        long magnitude = Long.parseUnsignedLong(string, index, end, radix);
+        if (Long.compareUnsigned(magnitude, negative ? -min : max) > 0)
+            throw newNumberFormatException(string, begin, end);
+        return negative ? -magnitude : magnitude;
+    }
+
+    @NotNull
+    static NumberFormatException newNumberFormatException(
+        @NotNull CharSequence string, int begin, int end
+    ) {
+        return new NumberFormatException(
+            "For input string: \"" + string.subSequence(begin, end) + "\""
+        );
+    }
+
+    private static boolean startsWith(@NotNull CharSequence string, int index, int end, char c) {
+        return index < end && string.charAt(index) == c;
+    }
+}
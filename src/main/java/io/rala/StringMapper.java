@@ -1,15 +1,24 @@
 package io.rala;
 
+import io.rala.sink.DoubleSink;
+import io.rala.sink.IntSink;
+import io.rala.sink.LongSink;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.*;
-import java.util.HashMap;
-import java.util.Map;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalQuery;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * maps a string to an object based on specified class
@@ -21,9 +30,44 @@ import java.util.function.Function;
  */
 public class StringMapper {
     private static final Map<Class<?>, Class<?>> WRAPPER_TYPE_MAP = new HashMap<>();
-    private static StringMapper instance;
-    private final Map<Class<?>, Function<String, ?>> mapperMap = new HashMap<>();
-    private boolean mapEnumEnabled = false;
+    private static final Map<Class<?>, TemporalQuery<?>> TEMPORAL_QUERY_MAP = new HashMap<>();
+    private static final Map<Map.Entry<String, Locale>, DateTimeFormatter> DATE_TIME_FORMATTER_CACHE =
+        new ConcurrentHashMap<>();
+    private static final ClassValue<Set<String>> ENUM_NAMES = new ClassValue<>() {
+        @Override
+        protected Set<String> computeValue(Class<?> type) {
+            Set<String> names = new HashSet<>();
+            for (Object constant : type.getEnumConstants())
+                names.add(((Enum<?>) constant).name());
+            return names;
+        }
+    };
+    private static final ClassValue<Boolean> MAP_PRIMITIVE_OVERRIDDEN = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<?> current = type; current != StringMapper.class; current = current.getSuperclass())
+                try {
+                    current.getDeclaredMethod("mapPrimitive", String.class, Class.class);
+                    return true;
+                } catch (NoSuchMethodException e) {
+                    // check superclass
+                }
+            return false;
+        }
+    };
+    private static final ThreadLocal<StringMapper> CURRENT = new ThreadLocal<>();
+    private final Map<Class<?>, Function<String, ?>> mapperMap = new ConcurrentHashMap<>();
+    private final StringMapper parent;
+    private final AtomicLong modificationCount = new AtomicLong();
+    private final CompositeMapper compositeMapper = new CompositeMapper(this);
+    private final Map<Class<?>, Function<String, ?>> factoryMappers = new ConcurrentHashMap<>();
+    private volatile boolean mapEnumEnabled = false;
+    private volatile boolean mapFactoryEnabled = false;
+    private volatile boolean mapMathEnabled = false;
+    private volatile boolean builtInChainEnabled = false;
+    private volatile boolean frozen = false;
+    private volatile DecimalParser decimalParser;
+    private volatile AdaptiveDispatch adaptiveDispatch;
 
     static {
         WRAPPER_TYPE_MAP.put(boolean.class, Boolean.class);
@@ -35,6 +79,19 @@ public class StringMapper {
         WRAPPER_TYPE_MAP.put(float.class, Float.class);
         WRAPPER_TYPE_MAP.put(double.class, Double.class);
         WRAPPER_TYPE_MAP.put(void.class, Void.class);
+
+        TEMPORAL_QUERY_MAP.put(Instant.class, Instant::from);
+        TEMPORAL_QUERY_MAP.put(LocalDate.class, LocalDate::from);
+        TEMPORAL_QUERY_MAP.put(LocalDateTime.class, LocalDateTime::from);
+        TEMPORAL_QUERY_MAP.put(LocalTime.class, LocalTime::from);
+        TEMPORAL_QUERY_MAP.put(MonthDay.class, MonthDay::from);
+        TEMPORAL_QUERY_MAP.put(OffsetDateTime.class, OffsetDateTime::from);
+        TEMPORAL_QUERY_MAP.put(OffsetTime.class, OffsetTime::from);
+        TEMPORAL_QUERY_MAP.put(Year.class, Year::from);
+        TEMPORAL_QUERY_MAP.put(YearMonth.class, YearMonth::from);
+        TEMPORAL_QUERY_MAP.put(ZonedDateTime.class, ZonedDateTime::from);
+        TEMPORAL_QUERY_MAP.put(ZoneId.class, ZoneId::from);
+        TEMPORAL_QUERY_MAP.put(ZoneOffset.class, ZoneOffset::from);
     }
 
     /**
@@ -43,7 +100,44 @@ public class StringMapper {
      * @since 1.0.0
      */
     public StringMapper() {
-        // nothing to do here
+        this.parent = null;
+    }
+
+    /**
+     * creates {@link StringMapper} on top of {@code parent}
+     * <p>
+     * mappers and settings of {@code parent} apply
+     * if this instance does not provide own ones -
+     * {@code remove*} methods only affect this instance
+     *
+     * @param parent parent to consider - not copied
+     * @see #freeze()
+     * @since 1.1.0
+     */
+    public StringMapper(@NotNull StringMapper parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * makes this instance read-only - to share it as immutable base of
+     * {@link #StringMapper(StringMapper)} children which may add own mappers
+     * <p>
+     * all {@code add*} and {@code remove*} methods throw afterwards
+     *
+     * @see #isFrozen()
+     * @since 1.1.0
+     */
+    public void freeze() {
+        frozen = true;
+    }
+
+    /**
+     * @return {@code true} if this instance is read-only
+     * @see #freeze()
+     * @since 1.1.0
+     */
+    public boolean isFrozen() {
+        return frozen;
     }
 
     /**
@@ -52,7 +146,9 @@ public class StringMapper {
      * @since 1.0.3
      */
     public void addEnumMapper() {
+        checkModifiable();
         mapEnumEnabled = true;
+        modified();
     }
 
     /**
@@ -61,17 +157,23 @@ public class StringMapper {
      * @since 1.0.3
      */
     public void removeEnumMapper() {
+        checkModifiable();
         mapEnumEnabled = false;
+        modified();
     }
 
     /**
      * enables math mapping for {@link BigInteger}, {@link BigDecimal}
+     * <p>
+     * uses mapper of {@link #addLocaleMapper(Locale)} if locale mapping is enabled
      *
+     * @see BigNumberParser
      * @since 1.0.3
      */
     public void addMathMapper() {
-        addCustomMapper(BigInteger.class, BigInteger::new);
-        addCustomMapper(BigDecimal.class, BigDecimal::new);
+        checkModifiable();
+        mapMathEnabled = true;
+        addBigNumberMapper(decimalParser);
     }
 
     /**
@@ -80,10 +182,64 @@ public class StringMapper {
      * @since 1.0.3
      */
     public void removeMathMapper() {
+        checkModifiable();
+        mapMathEnabled = false;
         removeCustomMapper(BigInteger.class);
         removeCustomMapper(BigDecimal.class);
     }
 
+    /**
+     * enables locale specific number mapping for
+     * {@code byte}, {@code short}, {@code int}, {@code long},
+     * {@code float}, {@code double} (and their wrappers),
+     * {@link BigInteger}, {@link BigDecimal}
+     * <p>
+     * overrides {@link BigInteger} and {@link BigDecimal} mapper of {@link #addMathMapper()}
+     *
+     * @param locale locale to get decimal and grouping separator from
+     * @see DecimalParser#of(Locale)
+     * @since 1.1.0
+     */
+    public void addLocaleMapper(@NotNull Locale locale) {
+        checkModifiable();
+        DecimalParser parser = DecimalParser.of(locale);
+        decimalParser = parser;
+        addBigNumberMapper(parser);
+    }
+
+    /**
+     * disables locale specific number mapping
+     * <p>
+     * restores {@link BigInteger} and {@link BigDecimal} mapper
+     * of {@link #addMathMapper()} if math mapping is enabled
+     *
+     * @see #addLocaleMapper(Locale)
+     * @since 1.1.0
+     */
+    public void removeLocaleMapper() {
+        checkModifiable();
+        decimalParser = null;
+        if (mapMathEnabled) addBigNumberMapper(null);
+        else {
+            removeCustomMapper(BigInteger.class);
+            removeCustomMapper(BigDecimal.class);
+        }
+        modified();
+    }
+
+    /**
+     * @param parser parser of locale mapping or {@code null} for {@link BigNumberParser}
+     */
+    private void addBigNumberMapper(@Nullable DecimalParser parser) {
+        if (parser == null) {
+            addCustomMapper(BigInteger.class, BigNumberParser::parseBigInteger, Validators::isBigInteger);
+            addCustomMapper(BigDecimal.class, BigNumberParser::parseBigDecimal, Validators::isBigDecimal);
+        } else {
+            addCustomMapper(BigInteger.class, parser::parseBigInteger, parser::isBigInteger);
+            addCustomMapper(BigDecimal.class, parser::parseBigDecimal, parser::isDecimal);
+        }
+    }
+
     /**
      * enables time mapping for
      * {@link Duration}, {@link Instant}, {@link LocalDate},
@@ -96,21 +252,61 @@ public class StringMapper {
      */
     public void addTimeMapper() {
         addCustomMapper(Duration.class, Duration::parse);
-        addCustomMapper(Instant.class, Instant::parse);
-        addCustomMapper(LocalDate.class, LocalDate::parse);
-        addCustomMapper(LocalDateTime.class, LocalDateTime::parse);
-        addCustomMapper(LocalTime.class, LocalTime::parse);
-        addCustomMapper(MonthDay.class, MonthDay::parse);
-        addCustomMapper(OffsetDateTime.class, OffsetDateTime::parse);
-        addCustomMapper(OffsetTime.class, OffsetTime::parse);
+        addCustomMapper(Instant.class, Instant::parse, Validators::isInstant);
+        addCustomMapper(LocalDate.class, LocalDate::parse, Validators::isLocalDate);
+        addCustomMapper(LocalDateTime.class, LocalDateTime::parse, Validators::isLocalDateTime);
+        addCustomMapper(LocalTime.class, LocalTime::parse, Validators::isLocalTime);
+        addCustomMapper(MonthDay.class, MonthDay::parse, Validators::isMonthDay);
+        addCustomMapper(OffsetDateTime.class, OffsetDateTime::parse, Validators::isOffsetDateTime);
+        addCustomMapper(OffsetTime.class, OffsetTime::parse, Validators::isOffsetTime);
         addCustomMapper(Period.class, Period::parse);
         addCustomMapper(Year.class, Year::parse);
-        addCustomMapper(YearMonth.class, YearMonth::parse);
+        addCustomMapper(YearMonth.class, YearMonth::parse, Validators::isYearMonth);
         addCustomMapper(ZonedDateTime.class, ZonedDateTime::parse);
         addCustomMapper(ZoneId.class, ZoneId::of);
         addCustomMapper(ZoneOffset.class, ZoneOffset::of);
     }
 
+    /**
+     * enables time mapping for {@code type} based on a pattern -
+     * formatters are cached by pattern and locale
+     *
+     * @param type    type to map -
+     *                one of {@link Instant}, {@link LocalDate},
+     *                {@link LocalDateTime}, {@link LocalTime}, {@link MonthDay},
+     *                {@link OffsetDateTime}, {@link OffsetTime},
+     *                {@link Year}, {@link YearMonth}, {@link ZonedDateTime},
+     *                {@link ZoneId}, {@link ZoneOffset}
+     * @param pattern pattern of {@link DateTimeFormatter#ofPattern(String, Locale)}
+     * @param locale  locale of formatter
+     * @param <T>     requested type
+     * @throws IllegalArgumentException if type is not supported or pattern is invalid
+     * @see #getDateTimeFormatter(String, Locale)
+     * @since 1.1.0
+     */
+    public <T> void addTimeMapper(
+        @NotNull Class<T> type, @NotNull String pattern, @NotNull Locale locale
+    ) {
+        addTimeMapper(type, getDateTimeFormatter(pattern, locale));
+    }
+
+    /**
+     * enables time mapping for {@code type} based on a formatter
+     *
+     * @param type      type to map -
+     *                  see {@link #addTimeMapper(Class, String, Locale)}
+     * @param formatter formatter to parse with
+     * @param <T>       requested type
+     * @throws IllegalArgumentException if type is not supported
+     * @since 1.1.0
+     */
+    public <T> void addTimeMapper(@NotNull Class<T> type, @NotNull DateTimeFormatter formatter) {
+        //noinspection unchecked
+        TemporalQuery<T> query = (TemporalQuery<T>) TEMPORAL_QUERY_MAP.get(type);
+        if (query == null) throw new IllegalArgumentException(type.getName());
+        addCustomMapper(type, string -> formatter.parse(string, query));
+    }
+
     /**
      * disables time mapping for
      * {@link Duration}, {@link Instant}, {@link LocalDate},
@@ -139,8 +335,119 @@ public class StringMapper {
     }
 
     /**
+     * enables factory mapping
+     * <p>
+     * registers all {@link MapperRegistration}s of {@link ServiceLoader} -
+     * usually generated for {@link MapperFactory} methods -
+     * and maps other types via their public static
+     * {@code valueOf}, {@code parse} or {@code of} method
+     * taking a {@link String} or {@link CharSequence}
+     *
+     * @see #addFactoryMapper(ClassLoader)
+     * @since 1.1.0
+     */
+    public void addFactoryMapper() {
+        addFactoryMapper(Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * enables factory mapping like {@link #addFactoryMapper()}
+     *
+     * @param classLoader class loader to load {@link MapperRegistration}s from
+     * @since 1.1.0
+     */
+    public void addFactoryMapper(@Nullable ClassLoader classLoader) {
+        checkModifiable();
+        mapFactoryEnabled = true;
+        for (MapperRegistration<?> registration : ServiceLoader.load(MapperRegistration.class, classLoader)) {
+            Function<String, ?> mapper = registration.getMapper();
+            mapperMap.put(registration.getType(), mapper);
+            factoryMappers.put(registration.getType(), mapper);
+        }
+        modified();
+    }
+
+    /**
+     * disables factory mapping and removes registered {@link MapperRegistration}s
+     * <p>
+     * mappers which replaced a registration in the meantime are kept
+     *
+     * @since 1.1.0
+     */
+    public void removeFactoryMapper() {
+        checkModifiable();
+        mapFactoryEnabled = false;
+        for (Map.Entry<Class<?>, Function<String, ?>> entry : factoryMappers.entrySet())
+            mapperMap.remove(entry.getKey(), entry.getValue());
+        factoryMappers.clear();
+        modified();
+    }
+
+    /**
+     * enables adaptive mapping with a warm-up of 10000 mappings
+     *
+     * @see #addAdaptiveMapper(int)
+     * @since 1.1.0
+     */
+    public void addAdaptiveMapper() {
+        addAdaptiveMapper(10_000);
+    }
+
+    /**
+     * enables adaptive mapping
+     * <p>
+     * requested types are counted during warm-up -
+     * afterwards up to 32 hot types are resolved once and
+     * mapped via a single lookup in front of built-in types, enums and mappers.
+     * mappers of parents, supported types and factories are promoted to exact entries.
+     * types which are not specialized are still counted -
+     * after {@code warmUp} mappings of them dispatch is specialized again.
+     * any change of mappers or settings of this instance or its parents
+     * restarts the warm-up
+     * <p>
+     * only affects {@link #map(String, Class)} of this instance
+     *
+     * @param warmUp count of mappings before specialization
+     * @throws IllegalArgumentException if {@code warmUp} is not positive
+     * @see #getAdaptiveReport()
+     * @since 1.1.0
+     */
+    public void addAdaptiveMapper(int warmUp) {
+        checkModifiable();
+        if (warmUp <= 0)
+            throw new IllegalArgumentException("warmUp: " + warmUp);
+        adaptiveDispatch = new AdaptiveDispatch(warmUp);
+    }
+
+    /**
+     * disables adaptive mapping
+     *
+     * @since 1.1.0
+     */
+    public void removeAdaptiveMapper() {
+        checkModifiable();
+        adaptiveDispatch = null;
+    }
+
+    /**
+     * @return current state of adaptive mapping or
+     * {@code null} if adaptive mapping is disabled
+     * @see #addAdaptiveMapper(int)
+     * @since 1.1.0
+     */
+    @Nullable
+    public AdaptiveReport getAdaptiveReport() {
+        AdaptiveDispatch dispatch = adaptiveDispatch;
+        return dispatch == null ? null : dispatch.getReport();
+    }
+
+    /**
+     * a {@link MapperChain} of a built-in type is handled
+     * like {@link #addCustomMapperChain(Class, List)}
+     *
      * @param type   type of mapper
-     * @param mapper custom mapper to consider
+     * @param mapper custom mapper to consider -
+     *               {@code null} removes mapper
      * @param <T>    requested type
      * @param <R>    result type (may be subclass of {@code T})
      * @since 1.0.0
@@ -148,7 +455,63 @@ public class StringMapper {
     public <T, R extends T> void addCustomMapper(
         @NotNull Class<T> type, @Nullable Function<String, R> mapper
     ) {
-        mapperMap.put(type, mapper);
+        checkModifiable();
+        if (mapper == null) mapperMap.remove(type);
+        else {
+            mapperMap.put(type, mapper);
+            if (mapper instanceof MapperChain) enableBuiltInChain(type);
+        }
+        modified();
+    }
+
+    /**
+     * @param type      type of mapper
+     * @param mapper    custom mapper to consider
+     * @param validator returns {@code true} if {@code mapper} accepts string -
+     *                  used by {@link #isValid(CharSequence, Class)}
+     * @param <T>       requested type
+     * @param <R>       result type (may be subclass of {@code T})
+     * @since 1.1.0
+     */
+    public <T, R extends T> void addCustomMapper(
+        @NotNull Class<T> type, @NotNull Function<String, R> mapper,
+        @NotNull Predicate<CharSequence> validator
+    ) {
+        checkModifiable();
+        mapperMap.put(type, new ValidatingMapper<>(mapper, validator));
+        modified();
+    }
+
+    /**
+     * registers an ordered chain of candidate mappers -
+     * the last successful candidate is tried first
+     * <p>
+     * chains of built-in types like {@link Double} or {@code double}
+     * are preferred over built-in mapping (including {@link #mapToDouble(String)} and
+     * its variants) - a chain of a wrapper also applies to its primitive type
+     *
+     * @param type    type of mapper
+     * @param mappers candidate mappers in order of preference
+     * @param <T>     requested type
+     * @throws IllegalArgumentException if {@code mappers} is empty
+     * @see MapperChain
+     * @since 1.1.0
+     */
+    public <T> void addCustomMapperChain(
+        @NotNull Class<T> type, @NotNull List<? extends Function<String, ? extends T>> mappers
+    ) {
+        checkModifiable();
+        mapperMap.put(type, new MapperChain<T>(mappers));
+        enableBuiltInChain(type);
+        modified();
+    }
+
+    /**
+     * @param type type of a registered {@link MapperChain}
+     * @see #getBuiltInChain(Class)
+     */
+    private void enableBuiltInChain(@NotNull Class<?> type) {
+        if (getPrimitiveMapper(type, null) != null) builtInChainEnabled = true;
     }
 
     /**
@@ -156,7 +519,9 @@ public class StringMapper {
      * @since 1.0.0
      */
     public void removeCustomMapper(@NotNull Class<?> type) {
+        checkModifiable();
         mapperMap.remove(type);
+        modified();
     }
 
     /**
@@ -174,30 +539,202 @@ public class StringMapper {
      * @throws IllegalArgumentException if target class is {@code enum} and field is not found
      * @see #mapPrimitive(String, Class)
      * @see #getObjectInstance(Class)
+     * @see #addAdaptiveMapper(int)
      * @since 1.0.0
      */
     @Nullable
     public <T> T map(@Nullable String string, @NotNull Class<T> type) {
         if (string == null) string = "null";
         if (!type.isPrimitive() && string.equals("null")) return null;
+        AdaptiveDispatch dispatch = adaptiveDispatch;
+        Function<String, ?> specialized = null;
+        if (dispatch != null) {
+            specialized = dispatch.getMapper(type, getVersion());
+            if (specialized == null) {
+                if (dispatch.record(type)) dispatch.specialize(getVersion(), this::resolve);
+            } else if (!isMapPrimitiveOverridden()) return cast(specialized.apply(string), type);
+        }
+        Function<String, ?> chain = getBuiltInChain(type);
+        if (chain != null) return cast(chain.apply(string), type);
         T t = mapPrimitive(string, type);
         if (t != null) return t;
+        if (specialized != null) return cast(specialized.apply(string), type);
 
         if (isMapEnumEnabled() && type.isEnum())
             //noinspection unchecked,rawtypes
             return (T) Enum.valueOf((Class) type, string);
 
-        Function<String, ?> mapper = mapperMap.getOrDefault(type, null);
-        if (mapper == null)
-            for (Class<?> aClass : mapperMap.keySet()) {
-                if (!isSupported(type, aClass)) continue;
-                mapper = mapperMap.getOrDefault(aClass, null);
-                if (mapper != null) break;
-            }
+        Function<String, ?> mapper = getMapper(type);
+        if (mapper == null && isMapFactoryEnabled()) mapper = Factories.getFactory(type);
         if (mapper != null) return type.cast(mapper.apply(string));
         throw new IllegalArgumentException(type.getName());
     }
 
+    /**
+     * maps to composite types in a single pass
+     * <p>
+     * supported are
+     * <ul>
+     *     <li>{@code Map<K, V>} - entries separated by {@code ;},
+     *     key and value by {@code =} (or {@code :} if there is no {@code =}) -
+     *     e.g. {@code "a=1;b=2"}, result is ordered and later keys win</li>
+     *     <li>{@code Map.Entry<K, V>} - e.g. {@code "host:8080"}</li>
+     *     <li>{@code Optional<T>} - empty for {@code ""} and {@code "null"}</li>
+     *     <li>classes without mapper which have a single public constructor
+     *     with multiple parameters - components separated by {@code ,}</li>
+     *     <li>all types supported by {@link #map(String, Class)}</li>
+     * </ul>
+     * whitespace around components is ignored.
+     * components are mapped like {@link #map(String, Class)} -
+     * the structure of {@code type} is resolved once per version of mappers
+     *
+     * @param string string to map
+     * @param type   type to get object from - e.g. of a field or a type token
+     * @param <T>    requested type
+     * @return converted object - {@code null} like {@link #map(String, Class)}
+     * @throws IllegalArgumentException if {@code type} or a component is not supported
+     *                                  or {@code string} is malformed
+     * @see java.lang.reflect.Field#getGenericType()
+     * @since 1.1.0
+     */
+    @Nullable
+    public <T> T map(@Nullable String string, @NotNull Type type) {
+        //noinspection unchecked
+        return (T) compositeMapper.map(string == null ? "null" : string, type);
+    }
+
+    /**
+     * checks if {@link #map(String, Class)} would succeed without mapping
+     * <p>
+     * built-in types and mappers of {@link #addMathMapper()}, {@link #addLocaleMapper(Locale)}
+     * and {@link #addTimeMapper()} (except {@link Duration}, {@link Period}, {@link Year},
+     * {@link ZonedDateTime}, {@link ZoneId} and {@link ZoneOffset}) are scanned -
+     * other mappers are applied and failures are caught.
+     * if a subclass overrides {@link #mapPrimitive(String, Class)}
+     * {@link #map(String, Class)} is applied and failures are caught
+     *
+     * @param string string to check
+     * @param type   to get object from
+     * @return {@code true} if {@code string} is mappable to {@code type}
+     * @see #addCustomMapper(Class, Function, Predicate)
+     * @since 1.1.0
+     */
+    public boolean isValid(@Nullable CharSequence string, @NotNull Class<?> type) {
+        return isValid(string, type, getValidator(type));
+    }
+
+    /**
+     * checks all strings like {@link #isValid(CharSequence, Class)}
+     * but resolves {@code type} only once
+     *
+     * @param strings strings to check
+     * @param type    to get object from
+     * @return indices of strings which are not mappable to {@code type}
+     * @since 1.1.0
+     */
+    @NotNull
+    public BitSet validate(@NotNull List<? extends CharSequence> strings, @NotNull Class<?> type) {
+        Predicate<CharSequence> validator = getValidator(type);
+        BitSet failures = new BitSet(strings.size());
+        int index = 0;
+        for (CharSequence string : strings) {
+            if (!isValid(string, type, validator)) failures.set(index);
+            index++;
+        }
+        return failures;
+    }
+
+    /**
+     * maps without boxing - equivalent to mapping to {@code int}
+     *
+     * @param string string to map
+     * @return converted value
+     * @throws NumberFormatException if string is no {@code int}
+     * @see #addLocaleMapper(Locale)
+     * @see #addCustomMapperChain(Class, List)
+     * @since 1.1.0
+     */
+    public int mapToInt(@NotNull String string) {
+        Function<String, ?> chain = getBuiltInChain(int.class);
+        if (chain != null) return cast(chain.apply(string), int.class);
+        DecimalParser parser = getDecimalParser();
+        return (int) (parser == null ?
+            Numbers.decode(string, 0, string.length(), Integer.MIN_VALUE, Integer.MAX_VALUE) :
+            parseLong(parser, string, Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+
+    /**
+     * maps without boxing - equivalent to mapping to {@code long}
+     *
+     * @param string string to map
+     * @return converted value
+     * @throws NumberFormatException if string is no {@code long}
+     * @see #addLocaleMapper(Locale)
+     * @see #addCustomMapperChain(Class, List)
+     * @since 1.1.0
+     */
+    public long mapToLong(@NotNull String string) {
+        Function<String, ?> chain = getBuiltInChain(long.class);
+        if (chain != null) return cast(chain.apply(string), long.class);
+        DecimalParser parser = getDecimalParser();
+        return parser == null ?
+            Numbers.decode(string, 0, string.length(), Long.MIN_VALUE, Long.MAX_VALUE) :
+            parser.parseLong(string);
+    }
+
+    /**
+     * maps without boxing - equivalent to mapping to {@code double}
+     *
+     * @param string string to map
+     * @return converted value
+     * @throws NumberFormatException if string is no {@code double}
+     * @see #addLocaleMapper(Locale)
+     * @see #addCustomMapperChain(Class, List)
+     * @since 1.1.0
+     */
+    public double mapToDouble(@NotNull String string) {
+        Function<String, ?> chain = getBuiltInChain(double.class);
+        if (chain != null) return cast(chain.apply(string), double.class);
+        DecimalParser parser = getDecimalParser();
+        return parser == null ? Double.parseDouble(string) : parser.parseDouble(string);
+    }
+
+    /**
+     * @param strings strings to map
+     * @param sink    sink to write values into
+     * @throws NumberFormatException if a string is no {@code int} -
+     *                               previous values are already written
+     * @see #mapToInt(String)
+     * @since 1.1.0
+     */
+    public void mapToInt(@NotNull Iterable<String> strings, @NotNull IntSink sink) {
+        for (String string : strings) sink.accept(mapToInt(string));
+    }
+
+    /**
+     * @param strings strings to map
+     * @param sink    sink to write values into
+     * @throws NumberFormatException if a string is no {@code long} -
+     *                               previous values are already written
+     * @see #mapToLong(String)
+     * @since 1.1.0
+     */
+    public void mapToLong(@NotNull Iterable<String> strings, @NotNull LongSink sink) {
+        for (String string : strings) sink.accept(mapToLong(string));
+    }
+
+    /**
+     * @param strings strings to map
+     * @param sink    sink to write values into
+     * @throws NumberFormatException if a string is no {@code double} -
+     *                               previous values are already written
+     * @see #mapToDouble(String)
+     * @since 1.1.0
+     */
+    public void mapToDouble(@NotNull Iterable<String> strings, @NotNull DoubleSink sink) {
+        for (String string : strings) sink.accept(mapToDouble(string));
+    }
+
     /**
      * @param string string to map
      * @param type   to get object from
@@ -209,6 +746,7 @@ public class StringMapper {
      */
     @Nullable
     protected <T> T mapPrimitive(@NotNull String string, @NotNull Class<T> type) {
+        DecimalParser parser = getDecimalParser();
         Object result;
         if (String.class.isAssignableFrom(type))
             result = string;
@@ -219,17 +757,20 @@ public class StringMapper {
         } else if (boolean.class.isAssignableFrom(type) || Boolean.class.isAssignableFrom(type))
             result = Boolean.parseBoolean(string);
         else if (byte.class.isAssignableFrom(type) || Byte.class.isAssignableFrom(type))
-            result = Byte.decode(string);
+            result = parser == null ? Byte.decode(string) :
+                (byte) parseLong(parser, string, Byte.MIN_VALUE, Byte.MAX_VALUE);
         else if (short.class.isAssignableFrom(type) || Short.class.isAssignableFrom(type))
-            result = Short.decode(string);
+            result = parser == null ? Short.decode(string) :
+                (short) parseLong(parser, string, Short.MIN_VALUE, Short.MAX_VALUE);
         else if (int.class.isAssignableFrom(type) || Integer.class.isAssignableFrom(type))
-            result = Integer.decode(string);
+            result = parser == null ? Integer.decode(string) :
+                (int) parseLong(parser, string, Integer.MIN_VALUE, Integer.MAX_VALUE);
         else if (long.class.isAssignableFrom(type) || Long.class.isAssignableFrom(type))
-            result = Long.decode(string);
+            result = parser == null ? Long.decode(string) : parser.parseLong(string);
         else if (float.class.isAssignableFrom(type) || Float.class.isAssignableFrom(type))
-            result = Float.parseFloat(string);
+            result = parser == null ? Float.parseFloat(string) : parser.parseFloat(string);
         else if (double.class.isAssignableFrom(type) || Double.class.isAssignableFrom(type))
-            result = Double.parseDouble(string);
+            result = parser == null ? Double.parseDouble(string) : parser.parseDouble(string);
         else return null;
         if (type.isPrimitive()) // checked throws ClassCastException
             //noinspection unchecked
@@ -255,22 +796,290 @@ public class StringMapper {
         return false;
     }
 
+    /**
+     * @return parser of locale mapping or {@code null} if disabled
+     * @see #addLocaleMapper(Locale)
+     * @since 1.1.0
+     */
+    @Nullable
+    protected DecimalParser getDecimalParser() {
+        DecimalParser parser = decimalParser;
+        return parser != null || parent == null ? parser : parent.getDecimalParser();
+    }
+
     /**
      * @return {@code true} if enum mapping is enabled
      * @see #isSupported(Class, Class)
      * @since 1.0.4
      */
     protected boolean isMapEnumEnabled() {
-        return mapEnumEnabled;
+        return mapEnumEnabled || parent != null && parent.isMapEnumEnabled();
+    }
+
+    /**
+     * @return {@code true} if factory mapping is enabled
+     * @see #addFactoryMapper()
+     * @since 1.1.0
+     */
+    protected boolean isMapFactoryEnabled() {
+        return mapFactoryEnabled || parent != null && parent.isMapFactoryEnabled();
+    }
+
+    private static boolean isValid(
+        @Nullable CharSequence string, @NotNull Class<?> type, @NotNull Predicate<CharSequence> validator
+    ) {
+        if (string == null) string = "null";
+        if (!type.isPrimitive() && "null".contentEquals(string)) return true;
+        return validator.test(string);
+    }
+
+    /**
+     * resolves type like {@link #map(String, Class)}
+     *
+     * @param type type to get validator for
+     * @return validator of {@code type} ignoring {@code "null"}
+     */
+    @NotNull
+    private Predicate<CharSequence> getValidator(@NotNull Class<?> type) {
+        if (isMapPrimitiveOverridden())
+            return getCatchingValidator(type, string -> map(string, type));
+        Function<String, ?> chain = getBuiltInChain(type);
+        if (chain != null) return getCatchingValidator(type, chain);
+        Predicate<CharSequence> validator = getPrimitiveValidator(type);
+        if (validator != null) return validator;
+
+        if (isMapEnumEnabled() && type.isEnum()) {
+            Set<String> names = ENUM_NAMES.get(type);
+            return string -> names.contains(string.toString());
+        }
+
+        Function<String, ?> own = getMapper(type);
+        Function<String, ?> mapper = own == null && isMapFactoryEnabled() ? Factories.getFactory(type) : own;
+        if (mapper == null) return string -> false;
+        if (mapper instanceof ValidatingMapper)
+            return ((ValidatingMapper<?>) mapper).getValidator();
+        return getCatchingValidator(type, mapper);
+    }
+
+    /**
+     * @return validator which applies {@code mapper} and catches failures
+     */
+    @NotNull
+    private static Predicate<CharSequence> getCatchingValidator(
+        @NotNull Class<?> type, @NotNull Function<String, ?> mapper
+    ) {
+        return string -> {
+            try {
+                cast(mapper.apply(string.toString()), type);
+                return true;
+            } catch (RuntimeException e) {
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @param type type to get validator for
+     * @return validator matching {@link #mapPrimitive(String, Class)} -
+     * or {@code null} if not supported
+     */
+    @Nullable
+    private Predicate<CharSequence> getPrimitiveValidator(@NotNull Class<?> type) {
+        DecimalParser parser = getDecimalParser();
+        if (String.class.isAssignableFrom(type))
+            return string -> true;
+        else if (char.class.isAssignableFrom(type) || Character.class.isAssignableFrom(type))
+            return string -> string.length() == 1;
+        else if (boolean.class.isAssignableFrom(type) || Boolean.class.isAssignableFrom(type))
+            return string -> true;
+        else if (byte.class.isAssignableFrom(type) || Byte.class.isAssignableFrom(type))
+            return getIntegerValidator(parser, Byte.MIN_VALUE, Byte.MAX_VALUE);
+        else if (short.class.isAssignableFrom(type) || Short.class.isAssignableFrom(type))
+            return getIntegerValidator(parser, Short.MIN_VALUE, Short.MAX_VALUE);
+        else if (int.class.isAssignableFrom(type) || Integer.class.isAssignableFrom(type))
+            return getIntegerValidator(parser, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        else if (long.class.isAssignableFrom(type) || Long.class.isAssignableFrom(type))
+            return getIntegerValidator(parser, Long.MIN_VALUE, Long.MAX_VALUE);
+        else if (float.class.isAssignableFrom(type) || Float.class.isAssignableFrom(type) ||
+            double.class.isAssignableFrom(type) || Double.class.isAssignableFrom(type))
+            return parser == null ? Validators::isFloatingPoint : parser::isDecimal;
+        return null;
+    }
+
+    /**
+     * @return parent of this instance or {@code null} if there is none
+     * @see #StringMapper(StringMapper)
+     * @since 1.1.0
+     */
+    @Nullable
+    public StringMapper getParent() {
+        return parent;
+    }
+
+    /**
+     * exact mappers are preferred over supported ones -
+     * in both cases this instance is preferred over its parents
+     *
+     * @param type type to get mapper for
+     * @return mapper of {@code type} or {@code null} if there is none
+     */
+    @Nullable
+    private Function<String, ?> getMapper(@NotNull Class<?> type) {
+        for (StringMapper current = this; current != null; current = current.parent) {
+            Function<String, ?> mapper = current.mapperMap.get(type);
+            if (mapper != null) return mapper;
+        }
+        for (StringMapper current = this; current != null; current = current.parent)
+            for (Map.Entry<Class<?>, Function<String, ?>> entry : current.mapperMap.entrySet())
+                if (isSupported(type, entry.getKey())) return entry.getValue();
+        return null;
+    }
+
+    /**
+     * resolves type like {@link #map(String, Class)}
+     * for {@link AdaptiveDispatch} and {@link CompositeMapper}
+     *
+     * @param type type to resolve
+     * @return resolution and mapper of {@code type} or {@code null} if not mappable
+     */
+    @Nullable
+    Map.Entry<AdaptiveReport.Resolution, Function<String, ?>> resolve(@NotNull Class<?> type) {
+        Function<String, ?> chain = getBuiltInChain(type);
+        if (chain != null) return Map.entry(AdaptiveReport.Resolution.EXACT, chain);
+        if (!isMapPrimitiveOverridden()) {
+            Function<String, ?> primitive = getPrimitiveMapper(type, getDecimalParser());
+            if (primitive != null) return Map.entry(AdaptiveReport.Resolution.PRIMITIVE, primitive);
+        }
+        if (isMapEnumEnabled() && type.isEnum())
+            //noinspection unchecked,rawtypes
+            return Map.entry(AdaptiveReport.Resolution.ENUM, string -> Enum.valueOf((Class) type, string));
+        Function<String, ?> own = mapperMap.get(type);
+        if (own != null) return Map.entry(AdaptiveReport.Resolution.EXACT, own);
+        Function<String, ?> mapper = getMapper(type);
+        if (mapper != null) return Map.entry(AdaptiveReport.Resolution.FALLBACK, mapper);
+        Function<String, ?> factory = isMapFactoryEnabled() ? Factories.getFactory(type) : null;
+        return factory == null ? null : Map.entry(AdaptiveReport.Resolution.FACTORY, factory);
     }
 
     /**
-     * @return default instance of {@link StringMapper}
+     * @param type type to get chain for
+     * @return chain registered for built-in {@code type} or its wrapper -
+     * {@code null} if there is none
+     * @see #addCustomMapper(Class, Function)
+     * @see #addCustomMapperChain(Class, List)
+     */
+    @Nullable
+    Function<String, ?> getBuiltInChain(@NotNull Class<?> type) {
+        for (StringMapper current = this; current != null; current = current.parent) {
+            if (!current.builtInChainEnabled) continue;
+            Function<String, ?> mapper = current.mapperMap.get(type);
+            if (mapper == null && type.isPrimitive()) mapper = current.mapperMap.get(getObjectInstance(type));
+            if (mapper instanceof MapperChain) return mapper;
+        }
+        return null;
+    }
+
+    /**
+     * @return {@code true} if a subclass may map types in front of mappers
+     */
+    boolean isMapPrimitiveOverridden() {
+        return MAP_PRIMITIVE_OVERRIDDEN.get(getClass());
+    }
+
+    /**
+     * @return sum of modifications of this instance and its parents
+     */
+    long getVersion() {
+        long version = 0;
+        for (StringMapper current = this; current != null; current = current.parent)
+            version += current.modificationCount.get();
+        return version;
+    }
+
+    private void modified() {
+        modificationCount.incrementAndGet();
+    }
+
+    /**
+     * @throws IllegalStateException if this instance is frozen
+     * @see #freeze()
+     */
+    private void checkModifiable() {
+        if (frozen) throw new IllegalStateException("frozen");
+    }
+
+    /**
+     * @return default instance of {@link StringMapper} -
+     * mutable and shared globally, use a {@link #freeze() frozen} instance as shared base
      * @since 1.0.0
      */
     @NotNull
     public static StringMapper getInstance() {
-        return instance == null ? instance = new StringMapper() : instance;
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * @return instance bound to current thread or
+     * {@link #getInstance()} if there is none
+     * @see #runWith(StringMapper, Runnable)
+     * @see #callWith(StringMapper, Supplier)
+     * @since 1.1.0
+     */
+    @NotNull
+    public static StringMapper getCurrent() {
+        StringMapper current = CURRENT.get();
+        return current == null ? getInstance() : current;
+    }
+
+    /**
+     * binds {@code stringMapper} to current thread while running {@code runnable}
+     *
+     * @param stringMapper instance to return by {@link #getCurrent()}
+     * @param runnable     runnable to run
+     * @see #callWith(StringMapper, Supplier)
+     * @since 1.1.0
+     */
+    public static void runWith(@NotNull StringMapper stringMapper, @NotNull Runnable runnable) {
+        callWith(stringMapper, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    /**
+     * binds {@code stringMapper} to current thread while calling {@code supplier} -
+     * previous binding is restored afterwards
+     *
+     * @param stringMapper instance to return by {@link #getCurrent()}
+     * @param supplier     supplier to call
+     * @param <R>          result type
+     * @return result of {@code supplier}
+     * @since 1.1.0
+     */
+    public static <R> R callWith(@NotNull StringMapper stringMapper, @NotNull Supplier<R> supplier) {
+        StringMapper previous = CURRENT.get();
+        CURRENT.set(stringMapper);
+        try {
+            return supplier.get();
+        } finally {
+            if (previous == null) CURRENT.remove();
+            else CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * @param pattern pattern of {@link DateTimeFormatter#ofPattern(String, Locale)}
+     * @param locale  locale of formatter
+     * @return cached formatter
+     * @throws IllegalArgumentException if pattern is invalid
+     * @since 1.1.0
+     */
+    @NotNull
+    public static DateTimeFormatter getDateTimeFormatter(@NotNull String pattern, @NotNull Locale locale) {
+        return DATE_TIME_FORMATTER_CACHE.computeIfAbsent(
+            Map.entry(pattern, locale),
+            entry -> DateTimeFormatter.ofPattern(entry.getKey(), entry.getValue())
+        );
     }
 
     /**
@@ -283,4 +1092,70 @@ public class StringMapper {
     public static Class<?> getObjectInstance(@Nullable Class<?> type) {
         return WRAPPER_TYPE_MAP.getOrDefault(type, type);
     }
+
+    /**
+     * @param type   type to get mapper for
+     * @param parser parser of locale mapping or {@code null}
+     * @return mapper equal to {@link #mapPrimitive(String, Class)} or {@code null} if not supported
+     */
+    @Nullable
+    private static Function<String, ?> getPrimitiveMapper(@NotNull Class<?> type, @Nullable DecimalParser parser) {
+        Class<?> objectType = getObjectInstance(type);
+        if (String.class.isAssignableFrom(type))
+            return string -> string;
+        else if (objectType == Character.class)
+            return string -> {
+                if (string.length() == 1) return string.charAt(0);
+                throw new IllegalArgumentException("String is no character: " + string);
+            };
+        else if (objectType == Boolean.class)
+            return Boolean::parseBoolean;
+        else if (objectType == Byte.class)
+            return parser == null ? Byte::decode :
+                string -> (byte) parseLong(parser, string, Byte.MIN_VALUE, Byte.MAX_VALUE);
+        else if (objectType == Short.class)
+            return parser == null ? Short::decode :
+                string -> (short) parseLong(parser, string, Short.MIN_VALUE, Short.MAX_VALUE);
+        else if (objectType == Integer.class)
+            return parser == null ? Integer::decode :
+                string -> (int) parseLong(parser, string, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        else if (objectType == Long.class)
+            return parser == null ? Long::decode : parser::parseLong;
+        else if (objectType == Float.class)
+            return parser == null ? Float::parseFloat : parser::parseFloat;
+        else if (objectType == Double.class)
+            return parser == null ? Double::parseDouble : parser::parseDouble;
+        return null;
+    }
+
+    /**
+     * @return {@code value} as {@code type} - primitive types are checked via their wrapper
+     */
+    @Nullable
+    private static <T> T cast(@Nullable Object value, @NotNull Class<T> type) {
+        //noinspection unchecked
+        return type.isPrimitive() ? (T) getObjectInstance(type).cast(value) : type.cast(value);
+    }
+
+    static long parseLong(
+        @NotNull DecimalParser parser, @NotNull CharSequence string, long min, long max
+    ) {
+        long value = parser.parseLong(string);
+        if (value < min || max < value)
+            throw new NumberFormatException("Value out of range. Value:\"" + string + "\"");
+        return value;
+    }
+
+    @NotNull
+    private static Predicate<CharSequence> getIntegerValidator(
+        @Nullable DecimalParser parser, long min, long max
+    ) {
+        return parser == null ?
+            string -> Validators.isDecodable(string, min, max) :
+            string -> parser.isLong(string, min, max);
+    }
+
+    private static final class InstanceHolder {
+        private static final StringMapper INSTANCE = new StringMapper();
+    }
 }
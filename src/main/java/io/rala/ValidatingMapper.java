@@ -0,0 +1,34 @@
+package io.rala;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * mapper which knows whether it accepts a string without mapping it
+ *
+ * @param <T> result type
+ * @since 1.1.0
+ */
+final class ValidatingMapper<T> implements Function<String, T> {
+    private final Function<String, ? extends T> mapper;
+    private final Predicate<CharSequence> validator;
+
+    ValidatingMapper(
+        @NotNull Function<String, ? extends T> mapper, @NotNull Predicate<CharSequence> validator
+    ) {
+        this.mapper = mapper;
+        this.validator = validator;
+    }
+
+    @Override
+    public T apply(String string) {
+        return mapper.apply(string);
+    }
+
+    @NotNull
+    Predicate<CharSequence> getValidator() {
+        return validator;
+    }
+}
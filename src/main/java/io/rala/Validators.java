@@ -0,0 +1,409 @@
+package io.rala;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+/**
+ * syntax and range scanners matching the built-in parsers
+ * without creating results or exceptions
+ *
+ * @since 1.1.0
+ */
+final class Validators {
+    private static final int MAX_YEAR = 999_999_999;
+    private static final int MAX_OFFSET_SECONDS = 18 * 3600;
+
+    private Validators() {
+    }
+
+    // region numbers
+
+    /**
+     * @return {@code true} if {@link Numbers#decode(CharSequence, int, int, long, long)} accepts string
+     */
+    static boolean isDecodable(@NotNull CharSequence string, long min, long max) {
+        int end = string.length();
+        if (end == 0) return false;
+        int index = 0;
+        boolean negative = false;
+        char first = string.charAt(0);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            index++;
+        }
+        int radix = 10;
+        if (is(string, index, '0') && (is(string, index + 1, 'x') || is(string, index + 1, 'X'))) {
+            index += 2;
+            radix = 16;
+        } else if (is(string, index, '#')) {
+            index++;
+            radix = 16;
+        } else if (is(string, index, '0') && index + 1 < end) {
+            index++;
+            radix = 8;
+        }
+        if (index == end) return false;
+        long limit = negative ? -min : max;
+        long magnitude = 0;
+        for (; index < end; index++) {
+            int digit = Character.digit(string.charAt(index), radix);
+            if (digit < 0) return false;
+            if (Long.compareUnsigned(magnitude, Long.divideUnsigned(limit - digit, radix)) > 0)
+                return false;
+            magnitude = magnitude * radix + digit;
+        }
+        return true;
+    }
+
+    /**
+     * @return {@code true} if {@link Double#parseDouble(String)} accepts string
+     */
+    static boolean isFloatingPoint(@NotNull CharSequence string) {
+        int begin = 0;
+        int end = string.length();
+        while (begin < end && string.charAt(begin) <= ' ') begin++;
+        while (begin < end && string.charAt(end - 1) <= ' ') end--;
+        int index = begin;
+        if (is(string, index, end, '+') || is(string, index, end, '-')) index++;
+        if (regionEquals(string, index, end, "NaN") || regionEquals(string, index, end, "Infinity"))
+            return true;
+        if (is(string, index, end, '0') &&
+            (is(string, index + 1, end, 'x') || is(string, index + 1, end, 'X'))) {
+            index += 2;
+            int digits = 0;
+            for (; index < end && Character.digit(string.charAt(index), 16) >= 0 &&
+                string.charAt(index) < 128; index++)
+                digits++;
+            if (is(string, index, end, '.'))
+                for (index++; index < end && Character.digit(string.charAt(index), 16) >= 0 &&
+                    string.charAt(index) < 128; index++)
+                    digits++;
+            if (digits == 0 || !(is(string, index, end, 'p') || is(string, index, end, 'P')))
+                return false;
+            index = skipExponent(string, index + 1, end);
+            if (index < 0) return false;
+        } else {
+            int digits = 0;
+            for (; index < end && isAsciiDigit(string.charAt(index)); index++) digits++;
+            if (is(string, index, end, '.'))
+                for (index++; index < end && isAsciiDigit(string.charAt(index)); index++) digits++;
+            if (digits == 0) return false;
+            if (is(string, index, end, 'e') || is(string, index, end, 'E')) {
+                index = skipExponent(string, index + 1, end);
+                if (index < 0) return false;
+            }
+        }
+        if (index < end && "fFdD".indexOf(string.charAt(index)) >= 0) index++;
+        return index == end;
+    }
+
+    /**
+     * @return {@code true} if {@link java.math.BigInteger#BigInteger(String)} accepts string
+     */
+    static boolean isBigInteger(@NotNull CharSequence string) {
+        int length = string.length();
+        int index = is(string, 0, '-') || is(string, 0, '+') ? 1 : 0;
+        if (index == length) return false;
+        for (; index < length; index++)
+            if (Character.digit(string.charAt(index), 10) < 0) return false;
+        return true;
+    }
+
+    /**
+     * @return {@code true} if {@link java.math.BigDecimal#BigDecimal(String)} accepts string
+     */
+    static boolean isBigDecimal(@NotNull CharSequence string) {
+        int length = string.length();
+        int index = is(string, 0, '-') || is(string, 0, '+') ? 1 : 0;
+        int digits = 0;
+        long scale = 0;
+        for (; index < length && Character.digit(string.charAt(index), 10) >= 0; index++) digits++;
+        if (is(string, index, '.'))
+            for (index++; index < length && Character.digit(string.charAt(index), 10) >= 0; index++) {
+                digits++;
+                scale++;
+            }
+        if (digits == 0) return false;
+        if (index == length) return true;
+        if (!is(string, index, 'e') && !is(string, index, 'E')) return false;
+        index++;
+        boolean negative = is(string, index, '-');
+        if (negative || is(string, index, '+')) index++;
+        if (index == length) return false;
+        long exponent = 0;
+        for (; index < length; index++) {
+            int digit = Character.digit(string.charAt(index), 10);
+            if (digit < 0) return false;
+            // more than 10 significant exponent digits are rejected
+            if ((exponent = exponent * 10 + digit) > 9_999_999_999L) return false;
+        }
+        if (exponent > (negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE)) return false;
+        long adjustedScale = scale - (negative ? -exponent : exponent);
+        return Integer.MIN_VALUE <= adjustedScale && adjustedScale <= Integer.MAX_VALUE;
+    }
+
+    // endregion
+
+    // region time
+
+    /**
+     * @return {@code true} if {@link java.time.LocalDate#parse(CharSequence)} accepts string
+     */
+    static boolean isLocalDate(@NotNull CharSequence string) {
+        return skipDate(string, 0) == string.length();
+    }
+
+    /**
+     * @return {@code true} if {@link java.time.LocalTime#parse(CharSequence)} accepts string
+     */
+    static boolean isLocalTime(@NotNull CharSequence string) {
+        return skipTime(string, 0) == string.length();
+    }
+
+    /**
+     * @return {@code true} if {@link java.time.LocalDateTime#parse(CharSequence)} accepts string
+     */
+    static boolean isLocalDateTime(@NotNull CharSequence string) {
+        return skipTime(string, skipDateTimeSeparator(string, skipDate(string, 0))) == string.length();
+    }
+
+    /**
+     * @return {@code true} if {@link java.time.OffsetDateTime#parse(CharSequence)} accepts string
+     */
+    static boolean isOffsetDateTime(@NotNull CharSequence string) {
+        int index = skipTime(string, skipDateTimeSeparator(string, skipDate(string, 0)));
+        return skipOffset(string, index, true) == string.length();
+    }
+
+    /**
+     * @return {@code true} if {@link java.time.OffsetTime#parse(CharSequence)} accepts string
+     */
+    static boolean isOffsetTime(@NotNull CharSequence string) {
+        return skipOffset(string, skipTime(string, 0), false) == string.length();
+    }
+
+    /**
+     * @return {@code true} if {@link java.time.YearMonth#parse(CharSequence)} accepts string
+     */
+    static boolean isYearMonth(@NotNull CharSequence string) {
+        int index = skipYear(string, 0);
+        if (index < 0 || !is(string, index, '-')) return false;
+        return index + 3 == string.length() && isInRange(string, index + 1, 1, 12);
+    }
+
+    /**
+     * @return {@code true} if {@link java.time.MonthDay#parse(CharSequence)} accepts string
+     */
+    static boolean isMonthDay(@NotNull CharSequence string) {
+        if (string.length() != 7 || !is(string, 0, '-') || !is(string, 1, '-') || !is(string, 4, '-'))
+            return false;
+        int month = parseTwoDigits(string, 2);
+        int day = parseTwoDigits(string, 5);
+        return 1 <= month && month <= 12 && 1 <= day && day <= getDaysOfMonth(month, true);
+    }
+
+    /**
+     * strings with four digit years ending with {@code 'Z'} are scanned -
+     * other offsets depend on the runtime and
+     * other years may exceed the range of {@link Instant} so both are parsed
+     *
+     * @return {@code true} if {@link Instant#parse(CharSequence)} accepts string
+     */
+    static boolean isInstant(@NotNull CharSequence string) {
+        int length = string.length();
+        if (!is(string, length - 1, 'Z') && !is(string, length - 1, 'z') ||
+            parseTwoDigits(string, 0) < 0 || parseTwoDigits(string, 2) < 0 || !is(string, 4, '-')) {
+            try {
+                Instant.parse(string);
+                return true;
+            } catch (DateTimeParseException e) {
+                return false;
+            }
+        }
+        int index = skipDateTimeSeparator(string, skipDate(string, 0));
+        if (index < 0 || index + 8 > length || !is(string, index + 2, ':') || !is(string, index + 5, ':'))
+            return false;
+        int hour = parseTwoDigits(string, index);
+        int minute = parseTwoDigits(string, index + 3);
+        int second = parseTwoDigits(string, index + 6);
+        index += 8;
+        int fractionBegin = index;
+        int nano = 0;
+        if (is(string, index, '.'))
+            for (index++, fractionBegin = index;
+                 index < length && index - fractionBegin < 9 && isAsciiDigit(string.charAt(index)); index++)
+                nano |= string.charAt(index) - '0';
+        if (index != length - 1 || hour < 0 || minute < 0 || second < 0) return false;
+        if (hour == 24) return minute == 0 && second == 0 && nano == 0;
+        if (second == 60) return hour == 23 && minute == 59;
+        return hour < 24 && minute < 60 && second < 60;
+    }
+
+    // endregion
+
+    // region time skip
+
+    /**
+     * @return index after date or negative value if invalid
+     */
+    private static int skipDate(@NotNull CharSequence string, int index) {
+        int yearEnd = skipYear(string, index);
+        if (yearEnd < 0 || !is(string, yearEnd, '-') || !is(string, yearEnd + 3, '-'))
+            return -1;
+        int month = parseTwoDigits(string, yearEnd + 1);
+        int day = parseTwoDigits(string, yearEnd + 4);
+        if (month < 1 || 12 < month || day < 1) return -1;
+        long year = parseYear(string, index, yearEnd);
+        boolean leapYear = year % 4 == 0 && (year % 100 != 0 || year % 400 == 0);
+        return day <= getDaysOfMonth(month, leapYear) ? yearEnd + 6 : -1;
+    }
+
+    /**
+     * year has 4 to 10 digits - {@code '+'} is required if more than 4 digits are used
+     *
+     * @return index after year or negative value if invalid
+     */
+    private static int skipYear(@NotNull CharSequence string, int index) {
+        if (index < 0) return -1;
+        boolean negative = is(string, index, '-');
+        boolean positive = is(string, index, '+');
+        int begin = negative || positive ? index + 1 : index;
+        int end = begin;
+        while (end < string.length() && end - begin < 10 && isAsciiDigit(string.charAt(end))) end++;
+        int digits = end - begin;
+        if (digits < 4 || positive && digits == 4 || !negative && !positive && digits > 4)
+            return -1;
+        long year = parseYear(string, index, end);
+        if (negative && year == 0) return -1;
+        return Math.abs(year) <= MAX_YEAR ? end : -1;
+    }
+
+    private static long parseYear(@NotNull CharSequence string, int begin, int end) {
+        boolean negative = is(string, begin, '-');
+        long year = 0;
+        for (int i = negative || is(string, begin, '+') ? begin + 1 : begin; i < end; i++)
+            year = year * 10 + string.charAt(i) - '0';
+        return negative ? -year : year;
+    }
+
+    /**
+     * @return index after case insensitive {@code 'T'} or negative value if invalid
+     */
+    private static int skipDateTimeSeparator(@NotNull CharSequence string, int index) {
+        return is(string, index, 'T') || is(string, index, 't') ? index + 1 : -1;
+    }
+
+    /**
+     * {@code HH:mm[:ss[.n]]} with up to 9 fraction digits
+     *
+     * @return index after time or negative value if invalid
+     */
+    private static int skipTime(@NotNull CharSequence string, int index) {
+        if (index < 0 || !is(string, index + 2, ':') ||
+            !isInRange(string, index, 0, 23) || !isInRange(string, index + 3, 0, 59))
+            return -1;
+        index += 5;
+        if (!is(string, index, ':') || parseTwoDigits(string, index + 1) < 0) return index;
+        if (!isInRange(string, index + 1, 0, 59)) return -1;
+        index += 3;
+        if (!is(string, index, '.')) return index;
+        int fractionBegin = ++index;
+        while (index < string.length() && index - fractionBegin < 9 && isAsciiDigit(string.charAt(index)))
+            index++;
+        return index;
+    }
+
+    /**
+     * {@code Z} (case insensitive) or {@code +HH:MM[:ss]} -
+     * minutes are optional if {@code lenient}
+     *
+     * @return index after offset or negative value if invalid
+     */
+    private static int skipOffset(@NotNull CharSequence string, int index, boolean lenient) {
+        if (index < 0) return -1;
+        if (is(string, index, 'Z') || is(string, index, 'z')) return index + 1;
+        if (!is(string, index, '+') && !is(string, index, '-')) return -1;
+        int hours = parseTwoDigits(string, index + 1);
+        if (hours < 0) return -1;
+        index += 3;
+        int minutes = is(string, index, ':') ? parseTwoDigits(string, index + 1) : -1;
+        int seconds = 0;
+        if (0 <= minutes && minutes <= 59) {
+            index += 3;
+            int value = is(string, index, ':') ? parseTwoDigits(string, index + 1) : -1;
+            if (0 <= value && value <= 59) {
+                seconds = value;
+                index += 3;
+            }
+        } else if (lenient) minutes = 0;
+        else return -1;
+        return hours * 3600 + minutes * 60 + seconds <= MAX_OFFSET_SECONDS ? index : -1;
+    }
+
+    // endregion
+
+    // region utils
+
+    private static boolean isInRange(@NotNull CharSequence string, int index, int min, int max) {
+        int value = parseTwoDigits(string, index);
+        return min <= value && value <= max;
+    }
+
+    /**
+     * @return value of two ascii digits or negative value if invalid
+     */
+    private static int parseTwoDigits(@NotNull CharSequence string, int index) {
+        if (index < 0 || string.length() < index + 2) return -1;
+        char tens = string.charAt(index);
+        char ones = string.charAt(index + 1);
+        if (!isAsciiDigit(tens) || !isAsciiDigit(ones)) return -1;
+        return (tens - '0') * 10 + ones - '0';
+    }
+
+    private static int getDaysOfMonth(int month, boolean leapYear) {
+        switch (month) {
+            case 2:
+                return leapYear ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * @return index after exponent digits or negative value if invalid
+     */
+    private static int skipExponent(@NotNull CharSequence string, int index, int end) {
+        if (is(string, index, end, '+') || is(string, index, end, '-')) index++;
+        int begin = index;
+        while (index < end && isAsciiDigit(string.charAt(index))) index++;
+        return index == begin ? -1 : index;
+    }
+
+    private static boolean regionEquals(@NotNull CharSequence string, int index, int end, @NotNull String expected) {
+        if (end - index != expected.length()) return false;
+        for (int i = 0; i < expected.length(); i++)
+            if (string.charAt(index + i) != expected.charAt(i)) return false;
+        return true;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return '0' <= c && c <= '9';
+    }
+
+    private static boolean is(@NotNull CharSequence string, int index, char c) {
+        return is(string, index, string.length(), c);
+    }
+
+    private static boolean is(@NotNull CharSequence string, int index, int end, char c) {
+        return 0 <= index && index < end && string.charAt(index) == c;
+    }
+
+    // endregion
+}
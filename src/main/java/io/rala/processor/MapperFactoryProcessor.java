@@ -0,0 +1,162 @@
+package io.rala.processor;
+
+import io.rala.MapperFactory;
+import io.rala.MapperRegistration;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * creates a {@link MapperRegistration} for each method annotated with {@link MapperFactory}
+ * and lists them in {@code META-INF/services} -
+ * so factories are registered without runtime scanning or reflection
+ * <p>
+ * has to be enabled explicitly, e.g. via {@code javac -processor}
+ * or {@code annotationProcessorPaths} of the maven compiler plugin
+ *
+ * @author rala<br>
+ * <a href="mailto:code@rala.io">code@rala.io</a><br>
+ * <a href="https://www.rala.io">www.rala.io</a>
+ * @since 1.1.0
+ */
+public class MapperFactoryProcessor extends AbstractProcessor {
+    private static final String SERVICE_FILE =
+        "META-INF/services/" + MapperRegistration.class.getName();
+    private static final String SUFFIX = "_MapperRegistration";
+    private final Set<String> registrations = new TreeSet<>();
+
+    /**
+     * creates basic {@link MapperFactoryProcessor}
+     *
+     * @since 1.1.0
+     */
+    public MapperFactoryProcessor() {
+        // nothing to do here
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(MapperFactory.class.getCanonicalName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(MapperFactory.class))
+            if (isValid(element))
+                generateRegistration((ExecutableElement) element);
+        if (roundEnv.processingOver() && !registrations.isEmpty())
+            writeServiceFile();
+        return true;
+    }
+
+    // region validate
+
+    private boolean isValid(Element element) {
+        if (element.getKind() != ElementKind.METHOD)
+            return error(element, "only methods are supported");
+        ExecutableElement method = (ExecutableElement) element;
+        Set<Modifier> modifiers = method.getModifiers();
+        if (!modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.PRIVATE))
+            return error(method, "method has to be static and not private");
+        if (method.getParameters().size() != 1 || !isStringParameter(method.getParameters().get(0).asType()))
+            return error(method, "method requires a single String or CharSequence parameter");
+        if (method.getReturnType().getKind() != TypeKind.DECLARED)
+            return error(method, "method has to return an object");
+        for (Element current = method.getEnclosingElement();
+             current.getKind() != ElementKind.PACKAGE; current = current.getEnclosingElement()) {
+            Set<Modifier> typeModifiers = current.getModifiers();
+            boolean nested = current.getEnclosingElement().getKind() != ElementKind.PACKAGE;
+            if (typeModifiers.contains(Modifier.PRIVATE) || nested && !typeModifiers.contains(Modifier.STATIC))
+                return error(method, "enclosing type has to be accessible from its package");
+        }
+        return true;
+    }
+
+    private boolean isStringParameter(TypeMirror type) {
+        String name = processingEnv.getTypeUtils().erasure(type).toString();
+        return name.equals(String.class.getName()) || name.equals(CharSequence.class.getName());
+    }
+
+    private boolean error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+        return false;
+    }
+
+    // endregion
+
+    // region generate
+
+    private void generateRegistration(ExecutableElement method) {
+        TypeElement enclosing = (TypeElement) method.getEnclosingElement();
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(enclosing);
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        String simpleName = getFlatName(enclosing, packageName) + "_" + method.getSimpleName() + SUFFIX;
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        if (!registrations.add(qualifiedName)) return;
+
+        Types types = processingEnv.getTypeUtils();
+        String type = types.erasure(method.getReturnType()).toString();
+        String factory = enclosing.getQualifiedName() + "::" + method.getSimpleName();
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, method).openWriter()) {
+            if (!packageName.isEmpty()) writer.write("package " + packageName + ";\n\n");
+            writer.write("/**\n * generated by {@link " + getClass().getName() + "}\n */\n");
+            writer.write("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n");
+            writer.write("public final class " + simpleName +
+                " implements " + MapperRegistration.class.getName() + "<" + type + "> {\n");
+            writer.write("    @Override\n");
+            writer.write("    public Class<" + type + "> getType() {\n");
+            writer.write("        return " + type + ".class;\n");
+            writer.write("    }\n\n");
+            writer.write("    @Override\n");
+            writer.write("    public java.util.function.Function<String, " + type + "> getMapper() {\n");
+            writer.write("        return " + factory + ";\n");
+            writer.write("    }\n");
+            writer.write("}\n");
+        } catch (IOException e) {
+            error(method, "unable to write registration: " + e.getMessage());
+        }
+    }
+
+    private void writeServiceFile() {
+        try {
+            FileObject file = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = file.openWriter()) {
+                for (String registration : registrations)
+                    writer.write(registration + "\n");
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                "unable to write " + SERVICE_FILE + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * @return name of {@code type} without package - nested types are joined by {@code _}
+     */
+    private static String getFlatName(TypeElement type, String packageName) {
+        String name = type.getQualifiedName().toString();
+        if (!packageName.isEmpty()) name = name.substring(packageName.length() + 1);
+        return name.replace('.', '_');
+    }
+
+    // endregion
+}
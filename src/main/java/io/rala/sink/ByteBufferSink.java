@@ -0,0 +1,107 @@
+package io.rala.sink;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * writes primitive values sequentially into a {@link ByteBuffer}
+ * <p>
+ * a direct buffer keeps the column off-heap -
+ * a {@code long} or {@code double} column requires 8 bytes per value
+ *
+ * @author rala<br>
+ * <a href="mailto:code@rala.io">code@rala.io</a><br>
+ * <a href="https://www.rala.io">www.rala.io</a>
+ * @since 1.1.0
+ */
+public final class ByteBufferSink implements IntSink, LongSink, DoubleSink {
+    private final ByteBuffer buffer;
+    private final int start;
+
+    /**
+     * @param buffer buffer to write into starting at its position
+     * @since 1.1.0
+     */
+    public ByteBufferSink(@NotNull ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.start = buffer.position();
+    }
+
+    /**
+     * @param value value to write
+     * @throws java.nio.BufferOverflowException if buffer is full
+     * @since 1.1.0
+     */
+    @Override
+    public void accept(int value) {
+        buffer.putInt(value);
+    }
+
+    /**
+     * @param value value to write
+     * @throws java.nio.BufferOverflowException if buffer is full
+     * @since 1.1.0
+     */
+    @Override
+    public void accept(long value) {
+        buffer.putLong(value);
+    }
+
+    /**
+     * @param value value to write
+     * @throws java.nio.BufferOverflowException if buffer is full
+     * @since 1.1.0
+     */
+    @Override
+    public void accept(double value) {
+        buffer.putDouble(value);
+    }
+
+    /**
+     * @return underlying buffer - position is behind last written value
+     * @since 1.1.0
+     */
+    @NotNull
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * @return new buffer view of all values written since creation of this sink
+     * (starting at index {@code 0}) with {@link ByteOrder} of underlying buffer
+     * @since 1.1.0
+     */
+    @NotNull
+    public ByteBuffer toReadBuffer() {
+        ByteBuffer view = buffer.duplicate();
+        view.limit(view.position()).position(start);
+        return view.slice().order(buffer.order());
+    }
+
+    @Override
+    public String toString() {
+        return "ByteBufferSink{" +
+            "buffer=" + buffer +
+            '}';
+    }
+
+    /**
+     * @param values        count of values to store
+     * @param bytesPerValue bytes of each value -
+     *                      {@link Integer#BYTES}, {@link Long#BYTES} or {@link Double#BYTES}
+     * @return sink of new direct buffer in native byte order
+     * @throws IllegalArgumentException if capacity exceeds {@link Integer#MAX_VALUE}
+     * @since 1.1.0
+     */
+    @NotNull
+    public static ByteBufferSink allocateDirect(int values, int bytesPerValue) {
+        long capacity = (long) values * bytesPerValue;
+        if (values < 0 || bytesPerValue <= 0 || Integer.MAX_VALUE < capacity)
+            throw new IllegalArgumentException("capacity: " + capacity);
+        return new ByteBufferSink(
+            ByteBuffer.allocateDirect((int) capacity).order(ByteOrder.nativeOrder())
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package io.rala.sink;
+
+/**
+ * consumer of primitive {@code int} values
+ *
+ * @author rala<br>
+ * <a href="mailto:code@rala.io">code@rala.io</a><br>
+ * <a href="https://www.rala.io">www.rala.io</a>
+ * @since 1.1.0
+ */
+@FunctionalInterface
+public interface IntSink {
+    /**
+     * @param value value to accept
+     * @since 1.1.0
+     */
+    void accept(int value);
+}
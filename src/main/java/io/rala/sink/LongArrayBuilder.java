@@ -0,0 +1,103 @@
+package io.rala.sink;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * growable {@code long} array without boxing
+ *
+ * @author rala<br>
+ * <a href="mailto:code@rala.io">code@rala.io</a><br>
+ * <a href="https://www.rala.io">www.rala.io</a>
+ * @since 1.1.0
+ */
+public final class LongArrayBuilder implements LongSink {
+    private static final int DEFAULT_CAPACITY = 16;
+    private long[] values;
+    private int size;
+
+    /**
+     * creates builder with default capacity
+     *
+     * @since 1.1.0
+     */
+    public LongArrayBuilder() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity initial capacity
+     * @throws IllegalArgumentException if {@code initialCapacity} is negative
+     * @since 1.1.0
+     */
+    public LongArrayBuilder(int initialCapacity) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("initialCapacity: " + initialCapacity);
+        values = new long[initialCapacity];
+    }
+
+    @Override
+    public void accept(long value) {
+        if (size == values.length)
+            values = Arrays.copyOf(values, SinkUtils.grow(values.length));
+        values[size++] = value;
+    }
+
+    /**
+     * @param index index of value
+     * @return value at {@code index}
+     * @throws IndexOutOfBoundsException if {@code index} is invalid
+     * @since 1.1.0
+     */
+    public long get(int index) {
+        if (index < 0 || size <= index)
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        return values[index];
+    }
+
+    /**
+     * @return count of accepted values
+     * @since 1.1.0
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * removes all values but keeps capacity
+     *
+     * @since 1.1.0
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * @return copy of accepted values
+     * @since 1.1.0
+     */
+    @NotNull
+    public long[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * copies accepted values without an intermediate array
+     *
+     * @param array  array to copy into
+     * @param offset index in {@code array} of first value
+     * @throws IndexOutOfBoundsException if {@code array} is too small
+     * @since 1.1.0
+     */
+    public void copyTo(@NotNull long[] array, int offset) {
+        System.arraycopy(values, 0, array, offset, size);
+    }
+
+    @Override
+    public String toString() {
+        return "LongArrayBuilder{" +
+            "size=" + size +
+            '}';
+    }
+}
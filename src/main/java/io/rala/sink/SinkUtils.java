@@ -0,0 +1,15 @@
+package io.rala.sink;
+
+final class SinkUtils {
+    // some VMs reserve header words in arrays
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    private SinkUtils() {
+    }
+
+    static int grow(int length) {
+        if (length == MAX_ARRAY_LENGTH) throw new OutOfMemoryError("array too large");
+        long newLength = Math.max(length + (length >> 1), length + 1L);
+        return (int) Math.min(newLength, MAX_ARRAY_LENGTH);
+    }
+}
@@ -0,0 +1,87 @@
+package io.rala;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class BigNumberParserTest {
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "0", "-0", "+7", "100", "-100", "007", "127", "128", "-16", "-17",
+        "999999999999999999", "-999999999999999999",
+        "9223372036854775808", "-123456789012345678901234567890", "١٢٣"
+    })
+    void parseBigIntegerLikeConstructor(String s) {
+        assertThat(BigNumberParser.parseBigInteger(s)).isEqualTo(new BigInteger(s));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "-", "+-1", "1.0", "1e3", "0x10", " 1"})
+    void parseBigIntegerInvalid(String s) {
+        assertThatExceptionOfType(NumberFormatException.class)
+            .isThrownBy(() -> BigNumberParser.parseBigInteger(s));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "0", "-0", "0.00", "12.50", "-12.50", "100", "+1.", ".5", "-.05", "1.27", "1.28",
+        "0.000000000000000001", "99999999999999999.9", "999999999999999999.9",
+        "1E+3", "1.5e-7", "-123456789012345678901234567890.12", "١.٥"
+    })
+    void parseBigDecimalLikeConstructor(String s) {
+        BigDecimal expected = new BigDecimal(s);
+        BigDecimal actual = BigNumberParser.parseBigDecimal(s);
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.scale()).isEqualTo(expected.scale());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", ".", "-", "1..0", "1.0.0", "1e", "a"})
+    void parseBigDecimalInvalid(String s) {
+        assertThatExceptionOfType(NumberFormatException.class)
+            .isThrownBy(() -> BigNumberParser.parseBigDecimal(s));
+    }
+
+    @Test
+    void parseBigDecimalCached() {
+        assertThat(BigNumberParser.parseBigDecimal("1.00"))
+            .isSameAs(BigNumberParser.parseBigDecimal("1.00"));
+    }
+
+    @Test
+    void parseWithRange() {
+        String s = "a=12.50;b=100";
+
+        assertThat(BigNumberParser.parseBigDecimal(s, 2, 7)).isEqualTo(new BigDecimal("12.50"));
+        assertThat(BigNumberParser.parseBigInteger(s, 10, 13)).isEqualTo(BigInteger.valueOf(100));
+        assertThat(BigNumberParser.parseScaledLong(s, 2, 7, 2)).isEqualTo(1250);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+            .isThrownBy(() -> BigNumberParser.parseBigInteger(s, 10, 14));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "12.5|2|1250", "-12.50|2|-1250", "100|0|100", "1.000|1|10", "0.0000|18|0",
+        "1E+2|2|10000", "9223372036854775807|0|9223372036854775807",
+        "-922337203685477580.8|1|-9223372036854775808",
+    })
+    void parseScaledLong(String s, int scale, long expected) {
+        assertThat(BigNumberParser.parseScaledLong(s, scale)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "12.345|2", "922337203685477580.8|1", "1|19", "9223372036854775808|0",
+    })
+    void parseScaledLongNotRepresentable(String s, int scale) {
+        assertThatExceptionOfType(ArithmeticException.class)
+            .isThrownBy(() -> BigNumberParser.parseScaledLong(s, scale));
+    }
+}
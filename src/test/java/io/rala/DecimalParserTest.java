@@ -0,0 +1,136 @@
+package io.rala;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class DecimalParserTest {
+    private static final DecimalParser GERMAN = DecimalParser.of(Locale.GERMANY);
+    private static final DecimalParser US = DecimalParser.of(Locale.US);
+
+    @Test
+    void ofCachedLocale() {
+        assertThat(DecimalParser.of(Locale.GERMANY)).isSameAs(GERMAN);
+        assertThat(GERMAN.getDecimalSeparator()).isEqualTo(',');
+        assertThat(GERMAN.getGroupingSeparator()).isEqualTo('.');
+    }
+
+    @Test
+    void constructorWithEqualSeparators() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new DecimalParser(',', ',', '-'));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "0|0", "-0|0", "+12|12", "1.234|1234", "-1.234.567|-1234567",
+        "9.223.372.036.854.775.807|9223372036854775807",
+        "-9.223.372.036.854.775.808|-9223372036854775808",
+    })
+    void parseLong(String string, long expected) {
+        assertThat(GERMAN.parseLong(string)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "", "-", ".", "1,5", "1a", "9.223.372.036.854.775.808", "1-"
+    })
+    void parseLongInvalid(String string) {
+        assertThatExceptionOfType(NumberFormatException.class)
+            .isThrownBy(() -> GERMAN.parseLong(string));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "1.234,56|1234.56", "-0,1|-0.1", ",5|0.5", "0|0.0",
+        "123.456.789.012.345.678.901,5|123456789012345678901.5",
+        "0,00000000000000000000000001|1e-26",
+    })
+    void parseDoubleAndFloat(String string, String expected) {
+        assertThat(GERMAN.parseDouble(string)).isEqualTo(Double.parseDouble(expected));
+        assertThat(GERMAN.parseFloat(string)).isEqualTo(Float.parseFloat(expected));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "1,2,3", "1,2.3", "1e5", "NaN"})
+    void parseDoubleInvalid(String string) {
+        assertThatExceptionOfType(NumberFormatException.class)
+            .isThrownBy(() -> GERMAN.parseDouble(string));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "-922337203685477580.8", "-9223372036854775808", "-9,223,372,036,854,775,808"
+    })
+    void parseDoubleAndFloatWithMinimalUnscaledValue(String string) {
+        String expected = string.replace(",", "");
+        assertThat(US.parseDouble(string)).isEqualTo(Double.parseDouble(expected));
+        assertThat(US.parseFloat(string)).isEqualTo(Float.parseFloat(expected));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {",5", "-,5", "5,", "1,.5", "1,,234", "1,234,"})
+    void parseDoubleWithMisplacedGroupingSeparator(String string) {
+        assertThatExceptionOfType(NumberFormatException.class)
+            .isThrownBy(() -> US.parseDouble(string));
+        assertThatExceptionOfType(NumberFormatException.class)
+            .isThrownBy(() -> US.parseLong(string));
+        assertThat(US.isDecimal(string)).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {".5", "5.", "1.,5", "1..234"})
+    void parseDoubleWithMisplacedGroupingSeparatorGerman(String string) {
+        assertThatExceptionOfType(NumberFormatException.class)
+            .isThrownBy(() -> GERMAN.parseDouble(string));
+        assertThat(GERMAN.isDecimal(string)).isFalse();
+    }
+
+    @Test
+    void parseDoubleWithGroupingSeparator() {
+        assertThat(US.parseDouble("1,234.5")).isEqualTo(1234.5);
+        assertThat(US.parseDouble("-1,234,567")).isEqualTo(-1234567);
+    }
+
+    @Test
+    void parseDoubleNegativeZero() {
+        assertThat(GERMAN.parseDouble("-0")).isEqualTo(-0.0);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "1.234,50|1234.50", "-0,00|0.00", "12|12",
+        "123.456.789.012.345.678.901,05|123456789012345678901.05",
+    })
+    void parseBigDecimal(String string, String expected) {
+        assertThat(GERMAN.parseBigDecimal(string)).isEqualTo(new BigDecimal(expected));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "1.234|1234", "-123.456.789.012.345.678.901|-123456789012345678901",
+    })
+    void parseBigInteger(String string, String expected) {
+        assertThat(GERMAN.parseBigInteger(string)).isEqualTo(new BigInteger(expected));
+    }
+
+    @Test
+    void parseBigIntegerWithFraction() {
+        assertThatExceptionOfType(NumberFormatException.class)
+            .isThrownBy(() -> GERMAN.parseBigInteger("1,5"));
+    }
+
+    @Test
+    void parseWithSpaceGrouping() {
+        DecimalParser parser = new DecimalParser(',', ' ', '-');
+        assertThat(parser.parseLong("1 234 567")).isEqualTo(1234567);
+    }
+}
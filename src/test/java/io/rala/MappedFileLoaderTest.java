@@ -0,0 +1,162 @@
+package io.rala;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class MappedFileLoaderTest {
+    @TempDir
+    Path directory;
+    private StringMapper stringMapper;
+
+    @BeforeEach
+    void setUp() {
+        stringMapper = new StringMapper();
+    }
+
+    @Test
+    void constructorWithInvalidChunkSize() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new MappedFileLoader(stringMapper, 0))
+            .withMessage("chunkSize: 0");
+    }
+
+    // region loadInts, loadLongs and loadDoubles
+
+    @Test
+    void loadIntsOfEmptyFile() throws IOException {
+        assertThat(new MappedFileLoader(stringMapper).loadInts(write(""))).isEmpty();
+    }
+
+    @Test
+    void loadIntsWithLineSeparators() throws IOException {
+        assertThat(new MappedFileLoader(stringMapper).loadInts(write("1\r\n-2\n0x10\n+4")))
+            .containsExactly(1, -2, 16, 4);
+    }
+
+    @Test
+    void loadIntsInSmallChunks() throws IOException {
+        String content = IntStream.range(0, 10_000).mapToObj(String::valueOf)
+            .collect(Collectors.joining("\n", "", "\n"));
+        int[] values = new MappedFileLoader(stringMapper, 7).loadInts(write(content));
+        assertThat(values).containsExactly(IntStream.range(0, 10_000).toArray());
+    }
+
+    @Test
+    void loadIntsWithNonAsciiDigits() throws IOException {
+        assertThat(new MappedFileLoader(stringMapper).loadInts(write("١٢\n3")))
+            .containsExactly(12, 3);
+    }
+
+    @Test
+    void loadIntsWithInvalidLine() throws IOException {
+        Path path = write("1\n2\n3\nx\n5\ny\n");
+        assertThatExceptionOfType(LineFormatException.class)
+            .isThrownBy(() -> new MappedFileLoader(stringMapper, 2).loadInts(path))
+            .withCauseInstanceOf(NumberFormatException.class)
+            .satisfies(e -> assertThat(e.getLineNumber()).isEqualTo(4));
+    }
+
+    @Test
+    void loadIntsOutOfRange() throws IOException {
+        Path path = write("1\n2147483648");
+        assertThatExceptionOfType(LineFormatException.class)
+            .isThrownBy(() -> new MappedFileLoader(stringMapper).loadInts(path))
+            .withMessage("line 2: For input string: \"2147483648\"");
+    }
+
+    @Test
+    void loadIntsWithLocaleMapper() throws IOException {
+        stringMapper.addLocaleMapper(Locale.GERMANY);
+        assertThat(new MappedFileLoader(stringMapper).loadInts(write("1.234\n-5")))
+            .containsExactly(1234, -5);
+    }
+
+    @Test
+    void loadDoublesWithCustomMapperChain() throws IOException {
+        stringMapper.addCustomMapperChain(Double.class, Arrays.asList(
+            Double::parseDouble, s -> Double.parseDouble(s.replace(",", ""))
+        ));
+        assertThat(new MappedFileLoader(stringMapper).loadDoubles(write("1,234.5\n2")))
+            .containsExactly(1234.5, 2);
+    }
+
+    @Test
+    void loadLongs() throws IOException {
+        assertThat(new MappedFileLoader(stringMapper, 4).loadLongs(write("9223372036854775807\n-1\n")))
+            .containsExactly(Long.MAX_VALUE, -1);
+    }
+
+    @Test
+    void loadDoubles() throws IOException {
+        assertThat(new MappedFileLoader(stringMapper, 3)
+            .loadDoubles(write("0.1\n-2.5\n1e3\n.5\n123456789012345678\nNaN\n0.3")))
+            .containsExactly(0.1, -2.5, 1e3, .5, 123456789012345678d, Double.NaN, 0.3);
+    }
+
+    @Test
+    void loadDoublesWithLocaleMapper() throws IOException {
+        stringMapper.addLocaleMapper(Locale.GERMANY);
+        assertThat(new MappedFileLoader(stringMapper).loadDoubles(write("1.234,5\n-0,25")))
+            .containsExactly(1234.5, -0.25);
+    }
+
+    @Test
+    void loadMissingFile() {
+        assertThatExceptionOfType(NoSuchFileException.class)
+            .isThrownBy(() -> new MappedFileLoader(stringMapper).loadInts(directory.resolve("missing")));
+    }
+
+    // endregion
+
+    // region load
+
+    @Test
+    void loadStrings() throws IOException {
+        assertThat(new MappedFileLoader(stringMapper, 1).load(write("a\näö\n\nnull\n"), String.class))
+            .containsExactly("a", "äö", "", null);
+    }
+
+    @Test
+    void loadBigDecimals() throws IOException {
+        stringMapper.addMathMapper();
+        assertThat(new MappedFileLoader(stringMapper).load(write("1.50\n-2"), BigDecimal.class))
+            .containsExactly(new BigDecimal("1.50"), new BigDecimal("-2"));
+    }
+
+    @Test
+    void loadUnsupportedType() throws IOException {
+        Path path = write("1");
+        assertThatExceptionOfType(LineFormatException.class)
+            .isThrownBy(() -> new MappedFileLoader(stringMapper).load(path, BigDecimal.class))
+            .withMessage("line 1: " + BigDecimal.class.getName());
+    }
+
+    @Test
+    void loadPrimitiveType() throws IOException {
+        Path path = write("1");
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new MappedFileLoader(stringMapper).load(path, int.class))
+            .withMessage("primitive type: int");
+    }
+
+    // endregion
+
+    private Path write(String content) throws IOException {
+        return Files.write(directory.resolve("values.txt"), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
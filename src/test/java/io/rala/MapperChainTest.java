@@ -0,0 +1,90 @@
+package io.rala;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class MapperChainTest {
+    private static final DateTimeFormatter GERMAN_DATE = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+
+    @Test
+    void constructorWithoutCandidates() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new MapperChain<>(Collections.emptyList()));
+    }
+
+    @Test
+    void applyFirstCandidate() {
+        MapperChain<LocalDate> chain = createDateChain();
+
+        assertThat(chain.apply("2018-11-25")).isEqualTo(LocalDate.of(2018, 11, 25));
+        assertThat(chain.getLastSuccessfulIndex()).isZero();
+    }
+
+    @Test
+    void applySecondCandidateAndRememberIt() {
+        AtomicInteger isoCalls = new AtomicInteger();
+        MapperChain<LocalDate> chain = new MapperChain<>(Arrays.asList(
+            s -> {
+                isoCalls.incrementAndGet();
+                return LocalDate.parse(s);
+            },
+            s -> LocalDate.parse(s, GERMAN_DATE)
+        ));
+
+        assertThat(chain.apply("25.11.2018")).isEqualTo(LocalDate.of(2018, 11, 25));
+        assertThat(chain.getLastSuccessfulIndex()).isEqualTo(1);
+        assertThat(isoCalls).hasValue(1);
+
+        assertThat(chain.apply("26.11.2018")).isEqualTo(LocalDate.of(2018, 11, 26));
+        assertThat(isoCalls).hasValue(1);
+
+        assertThat(chain.apply("2018-11-27")).isEqualTo(LocalDate.of(2018, 11, 27));
+        assertThat(chain.getLastSuccessfulIndex()).isZero();
+    }
+
+    @Test
+    void applyCandidateReturningNull() {
+        MapperChain<Integer> chain = new MapperChain<>(Arrays.asList(
+            s -> null, Integer::decode
+        ));
+
+        assertThat(chain.apply("0x1F")).isEqualTo(31);
+        assertThat(chain.getLastSuccessfulIndex()).isEqualTo(1);
+    }
+
+    @Test
+    void applyWithoutApplicableCandidate() {
+        MapperChain<LocalDate> chain = createDateChain();
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> chain.apply("invalid"))
+            .satisfies(e -> assertThat(e.getSuppressed()).hasSize(2));
+    }
+
+    @Test
+    void copyWithoutState() {
+        MapperChain<LocalDate> chain = createDateChain();
+        chain.apply("25.11.2018");
+
+        MapperChain<LocalDate> copy = chain.copy();
+        assertThat(copy.getCandidates()).isEqualTo(chain.getCandidates());
+        assertThat(copy.getLastSuccessfulIndex()).isZero();
+    }
+
+    private static MapperChain<LocalDate> createDateChain() {
+        List<Function<String, LocalDate>> candidates = Arrays.asList(
+            LocalDate::parse, s -> LocalDate.parse(s, GERMAN_DATE)
+        );
+        return new MapperChain<>(candidates);
+    }
+}
@@ -0,0 +1,287 @@
+package io.rala;
+
+import io.rala.testUtils.model.ChildTestClass;
+import io.rala.testUtils.model.ParentTestClass;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.Timeout;
+
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * multithreaded checks of shared {@link StringMapper} instances -
+ * each test lets readers race against writers and collects violations
+ */
+@Timeout(60)
+class StringMapperConcurrencyTest {
+    private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+    private static final int ITERATIONS = 20_000;
+    private ExecutorService executor;
+    private StringMapper stringMapper;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(THREADS + 1);
+        stringMapper = new StringMapper();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    // region visibility
+
+    @Test
+    void replacedMapperIsVisibleAfterPublication() throws Exception {
+        AtomicLong published = new AtomicLong(-1);
+        List<String> violations = run(
+            () -> {
+                for (long version = 0; version < ITERATIONS; version++) {
+                    long current = version;
+                    stringMapper.addCustomMapper(BigInteger.class, s -> BigInteger.valueOf(current));
+                    published.set(current);
+                }
+                return Collections.emptyList();
+            },
+            () -> {
+                List<String> found = new ArrayList<>();
+                while (published.get() < ITERATIONS - 1) {
+                    long expectedMin = published.get();
+                    if (expectedMin < 0) continue;
+                    BigInteger mapped = stringMapper.map("", BigInteger.class);
+                    if (mapped == null || mapped.longValue() < expectedMin)
+                        found.add("stale mapper " + mapped + " < " + expectedMin);
+                }
+                return found;
+            }
+        );
+        assertThat(violations).isEmpty();
+    }
+
+    @Test
+    void mapperOfParentIsVisibleInChild() throws Exception {
+        StringMapper parent = new StringMapper();
+        StringMapper child = new StringMapper(parent);
+        AtomicBoolean added = new AtomicBoolean();
+        List<String> violations = run(
+            () -> {
+                parent.addCustomMapper(ParentTestClass.class, ParentTestClass::new);
+                added.set(true);
+                return Collections.emptyList();
+            },
+            () -> {
+                List<String> found = new ArrayList<>();
+                while (!added.get()) Thread.onSpinWait();
+                for (int i = 0; i < ITERATIONS; i++)
+                    if (!new ParentTestClass("a").equals(child.map("a", ParentTestClass.class)))
+                        found.add("parent mapper not visible");
+                return found;
+            }
+        );
+        assertThat(violations).isEmpty();
+    }
+
+    // endregion
+
+    // region add and remove while mapping
+
+    @Test
+    void mapWhileTogglingCustomMapper() throws Exception {
+        stringMapper.addCustomMapper(ParentTestClass.class, ParentTestClass::new);
+        List<String> violations = run(
+            () -> {
+                for (int i = 0; i < ITERATIONS; i++) {
+                    stringMapper.addCustomMapper(ChildTestClass.class, ChildTestClass::new);
+                    stringMapper.removeCustomMapper(ChildTestClass.class);
+                }
+                return Collections.emptyList();
+            },
+            () -> {
+                List<String> found = new ArrayList<>();
+                for (int i = 0; i < ITERATIONS; i++) {
+                    if (!new ParentTestClass("p").equals(stringMapper.map("p", ParentTestClass.class)))
+                        found.add("stable mapper lost");
+                    try {
+                        Object mapped = stringMapper.map("c", ChildTestClass.class);
+                        if (!new ChildTestClass("c").equals(mapped))
+                            found.add("unexpected child " + mapped);
+                    } catch (IllegalArgumentException e) {
+                        if (!ChildTestClass.class.getName().equals(e.getMessage()))
+                            found.add("unexpected failure " + e);
+                    }
+                }
+                return found;
+            }
+        );
+        assertThat(violations).isEmpty();
+    }
+
+    @Test
+    void mapWhileTogglingMapperGroups() throws Exception {
+        List<String> violations = run(
+            () -> {
+                for (int i = 0; i < ITERATIONS / 10; i++) {
+                    stringMapper.addTimeMapper();
+                    stringMapper.addMathMapper();
+                    stringMapper.addEnumMapper();
+                    stringMapper.removeTimeMapper();
+                    stringMapper.removeMathMapper();
+                    stringMapper.removeEnumMapper();
+                }
+                return Collections.emptyList();
+            },
+            () -> {
+                List<String> found = new ArrayList<>();
+                for (int i = 0; i < ITERATIONS; i++) {
+                    if (stringMapper.map("1", int.class) != 1)
+                        found.add("primitive mapping failed");
+                    checkOptional(found, "2018-11-25", LocalDate.class, LocalDate.of(2018, 11, 25));
+                    checkOptional(found, "42", BigInteger.class, BigInteger.valueOf(42));
+                    checkOptional(found, "HOURS", TimeUnit.class, TimeUnit.HOURS);
+                }
+                return found;
+            }
+        );
+        assertThat(violations).isEmpty();
+    }
+
+    @Test
+    void mapChainWhileCandidatesAlternate() throws Exception {
+        Function<String, BigInteger> decimal = BigInteger::new;
+        Function<String, BigInteger> hex = s -> {
+            if (!s.startsWith("0x")) throw new NumberFormatException(s);
+            return new BigInteger(s.substring(2), 16);
+        };
+        stringMapper.addCustomMapperChain(BigInteger.class, Arrays.asList(decimal, hex));
+        StringMapper child = new StringMapper(stringMapper);
+        List<String> violations = run(
+            Collections::emptyList,
+            () -> {
+                List<String> found = new ArrayList<>();
+                for (int i = 0; i < ITERATIONS; i++) {
+                    boolean useHex = ThreadLocalRandom.current().nextBoolean();
+                    String value = useHex ? "0xff" : "12";
+                    BigInteger expected = BigInteger.valueOf(useHex ? 255 : 12);
+                    if (!expected.equals(child.map(value, BigInteger.class)))
+                        found.add("chain mapped " + value + " wrong");
+                }
+                return found;
+            }
+        );
+        assertThat(violations).isEmpty();
+    }
+
+    // endregion
+
+    // region instances
+
+    @Test
+    void getInstanceReturnsSingleInstance() throws Exception {
+        Set<StringMapper> instances = ConcurrentHashMap.newKeySet();
+        run(Collections::emptyList, () -> {
+            for (int i = 0; i < 1_000; i++) instances.add(StringMapper.getInstance());
+            return Collections.emptyList();
+        });
+        assertThat(instances).containsExactly(StringMapper.getInstance());
+    }
+
+    @Test
+    void getCurrentIsBoundPerThread() throws Exception {
+        List<String> violations = run(Collections::emptyList, () -> {
+            List<String> found = new ArrayList<>();
+            StringMapper own = new StringMapper();
+            for (int i = 0; i < 1_000; i++)
+                StringMapper.runWith(own, () -> {
+                    if (StringMapper.getCurrent() != own) found.add("foreign current instance");
+                });
+            if (StringMapper.getCurrent() != StringMapper.getInstance())
+                found.add("current instance not restored");
+            return found;
+        });
+        assertThat(violations).isEmpty();
+    }
+
+    // endregion
+
+    // region scaling
+
+    @Test
+    void measureScaling(TestReporter reporter) throws Exception {
+        stringMapper.addMathMapper();
+        Map<String, String> report = new LinkedHashMap<>();
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int threads = 1; threads < THREADS; threads *= 2) threadCounts.add(threads);
+        threadCounts.add(THREADS);
+        for (int count : threadCounts) {
+            CyclicBarrier barrier = new CyclicBarrier(count);
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int t = 0; t < count; t++)
+                futures.add(executor.submit(() -> {
+                    barrier.await();
+                    long mapped = 0;
+                    long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+                    while (System.nanoTime() < end)
+                        for (int i = 0; i < 100; i++, mapped++)
+                            if (stringMapper.map("12", BigInteger.class) == null)
+                                throw new IllegalStateException("mapping failed");
+                    return mapped;
+                }));
+            long total = 0;
+            for (Future<Long> future : futures) total += future.get();
+            assertThat(total).isPositive();
+            report.put("threads." + count + ".mapsPer100ms", String.valueOf(total));
+        }
+        reporter.publishEntry(report);
+    }
+
+    // endregion
+
+    // region run
+
+    /**
+     * starts writer and {@link #THREADS} readers at once
+     *
+     * @return violations reported by all tasks
+     */
+    private List<String> run(Callable<List<String>> writer, Callable<List<String>> reader) throws Exception {
+        CyclicBarrier barrier = new CyclicBarrier(THREADS + 1);
+        List<Future<List<String>>> futures = new ArrayList<>();
+        futures.add(executor.submit(() -> {
+            barrier.await();
+            return writer.call();
+        }));
+        for (int i = 0; i < THREADS; i++)
+            futures.add(executor.submit(() -> {
+                barrier.await();
+                return reader.call();
+            }));
+        List<String> violations = new ArrayList<>();
+        for (Future<List<String>> future : futures)
+            violations.addAll(future.get());
+        return violations;
+    }
+
+    private <T> void checkOptional(List<String> found, String string, Class<T> type, T expected) {
+        try {
+            T mapped = stringMapper.map(string, type);
+            if (!expected.equals(mapped)) found.add("unexpected " + type.getSimpleName() + " " + mapped);
+        } catch (IllegalArgumentException e) {
+            if (!type.getName().equals(e.getMessage()))
+                found.add("unexpected failure " + e);
+        }
+    }
+
+    // endregion
+}
@@ -1,19 +1,37 @@
 package io.rala;
 
+import io.rala.sink.DoubleArrayBuilder;
+import io.rala.sink.IntArrayBuilder;
+import io.rala.sink.LongArrayBuilder;
 import io.rala.testUtils.arguments.ParameterArgumentsStreamFactory;
 import io.rala.testUtils.model.ChildTestClass;
 import io.rala.testUtils.model.InterfaceTestClass;
 import io.rala.testUtils.model.ParentTestClass;
 import io.rala.testUtils.model.TestInterface;
+import io.rala.testUtils.model.TupleTestClass;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.Month;
+import java.time.Period;
+import java.time.format.DateTimeFormatter;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Locale;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Level;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -129,6 +147,117 @@ class StringMapperTest {
             .isThrownBy(() -> stringMapper.map(s, LocalDate.class));
     }
 
+    @Test
+    void mapStringToLocalDateWithCustomMapperChain() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+
+        stringMapper.addCustomMapperChain(LocalDate.class, Arrays.asList(
+            LocalDate::parse, s -> LocalDate.parse(s, formatter)
+        ));
+
+        assertThat(stringMapper.map("2018-11-25", LocalDate.class))
+            .isEqualTo(LocalDate.of(2018, 11, 25));
+        assertThat(stringMapper.map("26.11.2018", LocalDate.class))
+            .isEqualTo(LocalDate.of(2018, 11, 26));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> stringMapper.map("11/27/2018", LocalDate.class));
+
+        stringMapper.removeCustomMapper(LocalDate.class);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> stringMapper.map("2018-11-25", LocalDate.class));
+    }
+
+    @Test
+    void mapStringToDoubleWithCustomMapperOfMapperChain() {
+        stringMapper.addCustomMapper(Double.class, new MapperChain<>(List.of(s -> 42.0)));
+
+        assertThat(stringMapper.map("1", Double.class)).isEqualTo(42.0);
+        assertThat(stringMapper.map("1", double.class)).isEqualTo(42.0);
+        assertThat(stringMapper.mapToDouble("1")).isEqualTo(42.0);
+    }
+
+    @Test
+    void mapStringToDoubleWithCustomMapperChain() {
+        stringMapper.addCustomMapperChain(Double.class, Arrays.asList(
+            Double::parseDouble, s -> Double.parseDouble(s.replace(",", ""))
+        ));
+
+        assertThat(stringMapper.map("1.5", Double.class)).isEqualTo(1.5);
+        assertThat(stringMapper.map("1,234.5", Double.class)).isEqualTo(1234.5);
+        assertThat(stringMapper.map("1,234.5", double.class)).isEqualTo(1234.5);
+        assertThat(stringMapper.mapToDouble("1,234.5")).isEqualTo(1234.5);
+        assertThat(stringMapper.map("null", Double.class)).isNull();
+        assertThat(stringMapper.isValid("1,234.5", Double.class)).isTrue();
+        assertThat(stringMapper.isValid("1,234.5", double.class)).isTrue();
+        assertThat(stringMapper.isValid("x", Double.class)).isFalse();
+        assertThat(new StringMapper(stringMapper).map("1,234.5", Double.class)).isEqualTo(1234.5);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> stringMapper.map("x", Double.class));
+
+        stringMapper.removeCustomMapper(Double.class);
+        assertThatExceptionOfType(NumberFormatException.class)
+            .isThrownBy(() -> stringMapper.map("1,234.5", Double.class));
+        assertThat(stringMapper.isValid("1,234.5", Double.class)).isFalse();
+    }
+
+    @Test
+    void mapStringToIntWithCustomMapperChainAndAdaptiveMapper() {
+        stringMapper.addCustomMapperChain(Integer.class, Arrays.asList(
+            Integer::valueOf, s -> Integer.valueOf(s.replace("_", ""))
+        ));
+        stringMapper.addAdaptiveMapper(1);
+
+        assertThat(stringMapper.map("1_000", int.class)).isEqualTo(1000);
+        assertThat(stringMapper.map("1_000", int.class)).isEqualTo(1000);
+        assertThat(stringMapper.getAdaptiveReport().getSpecializations())
+            .containsExactly(Map.entry(int.class, AdaptiveReport.Resolution.EXACT));
+        assertThat(stringMapper.<Map<String, Integer>>map("a=1_000", type("stringIntegerMap")))
+            .containsExactly(Map.entry("a", 1000));
+    }
+
+    @Test
+    void mapStringToNumbersWithLocaleMapper() {
+        stringMapper.addLocaleMapper(Locale.GERMANY);
+
+        assertThat(stringMapper.map("1.234", int.class)).isEqualTo(1234);
+        assertThat(stringMapper.map("-1.234.567.890.123", Long.class)).isEqualTo(-1234567890123L);
+        assertThat(stringMapper.map("1.234,5", double.class)).isEqualTo(1234.5);
+        assertThat(stringMapper.map("1.234,50", BigDecimal.class)).isEqualTo(new BigDecimal("1234.50"));
+        assertThat(stringMapper.map("1.234", BigInteger.class)).isEqualTo(BigInteger.valueOf(1234));
+        assertThatExceptionOfType(NumberFormatException.class)
+            .isThrownBy(() -> stringMapper.map("1.234", byte.class));
+
+        stringMapper.removeLocaleMapper();
+        assertThat(stringMapper.map("0x10", int.class)).isEqualTo(16);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> stringMapper.map("1", BigDecimal.class));
+    }
+
+    @Test
+    void mapStringToLocalDateWithPatternTimeMapper() {
+        stringMapper.addTimeMapper(LocalDate.class, "dd. MMMM yyyy", Locale.GERMANY);
+
+        assertThat(stringMapper.map("25. November 2018", LocalDate.class))
+            .isEqualTo(LocalDate.of(2018, 11, 25));
+
+        stringMapper.removeTimeMapper();
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> stringMapper.map("25. November 2018", LocalDate.class));
+    }
+
+    @Test
+    void addTimeMapperWithUnsupportedType() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> stringMapper.addTimeMapper(Duration.class, "HH", Locale.ROOT));
+    }
+
+    @Test
+    void getDateTimeFormatterCached() {
+        assertThat(StringMapper.getDateTimeFormatter("dd.MM.yyyy", Locale.GERMANY))
+            .isSameAs(StringMapper.getDateTimeFormatter("dd.MM.yyyy", Locale.GERMANY))
+            .isNotSameAs(StringMapper.getDateTimeFormatter("dd.MM.yyyy", Locale.US));
+    }
+
     // endregion
 
     // region mapString parent/child
@@ -201,6 +330,124 @@ class StringMapperTest {
 
     // endregion
 
+    // region parent and current
+
+    @Test
+    void mapStringWithParentMapper() {
+        String s = "test";
+        stringMapper.addCustomMapper(ParentTestClass.class, ParentTestClass::new);
+        stringMapper.addEnumMapper();
+
+        StringMapper child = new StringMapper(stringMapper);
+        child.addCustomMapper(ChildTestClass.class, ChildTestClass::new);
+
+        assertThat(child.getParent()).isSameAs(stringMapper);
+        assertThat(child.map(s, ParentTestClass.class)).isEqualTo(new ParentTestClass(s));
+        assertThat(child.map(s, ChildTestClass.class)).isEqualTo(new ChildTestClass(s));
+        assertThat(child.map("APRIL", Month.class)).isEqualTo(Month.APRIL);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> stringMapper.map(s, ChildTestClass.class));
+    }
+
+    @Test
+    void mapStringWithFrozenParent() {
+        stringMapper.addCustomMapper(ParentTestClass.class, ParentTestClass::new);
+        stringMapper.freeze();
+        StringMapper child = new StringMapper(stringMapper);
+        child.addCustomMapper(ParentTestClass.class, ChildTestClass::new);
+        child.addEnumMapper();
+
+        assertThat(stringMapper.isFrozen()).isTrue();
+        assertThat(child.isFrozen()).isFalse();
+        assertThat(child.map("c", ParentTestClass.class)).isEqualTo(new ChildTestClass("c"));
+        assertThat(child.map("MAY", Month.class)).isEqualTo(Month.MAY);
+        assertThat(stringMapper.map("p", ParentTestClass.class)).isEqualTo(new ParentTestClass("p"));
+        assertThatExceptionOfType(IllegalStateException.class)
+            .isThrownBy(() -> stringMapper.addCustomMapper(ChildTestClass.class, ChildTestClass::new))
+            .withMessage("frozen");
+        assertThatExceptionOfType(IllegalStateException.class)
+            .isThrownBy(() -> stringMapper.removeCustomMapper(ParentTestClass.class));
+        assertThatExceptionOfType(IllegalStateException.class)
+            .isThrownBy(() -> stringMapper.addLocaleMapper(Locale.GERMANY));
+        assertThatExceptionOfType(IllegalStateException.class)
+            .isThrownBy(stringMapper::addTimeMapper);
+        assertThat(stringMapper.getDecimalParser()).isNull();
+    }
+
+    @Test
+    void mapStringWithChildMapperPreferred() {
+        String s = "test";
+        stringMapper.addCustomMapper(ParentTestClass.class, ParentTestClass::new);
+
+        StringMapper child = new StringMapper(stringMapper);
+        child.addCustomMapper(ParentTestClass.class, ChildTestClass::new);
+        assertThat(child.map(s, ParentTestClass.class)).isInstanceOf(ChildTestClass.class);
+
+        child.removeCustomMapper(ParentTestClass.class);
+        assertThat(child.map(s, ParentTestClass.class).getClass()).isEqualTo(ParentTestClass.class);
+    }
+
+    @Test
+    void mapStringToBigNumbersWithMathMapperAfterLocaleMapper() {
+        stringMapper.addLocaleMapper(Locale.GERMANY);
+        stringMapper.addMathMapper();
+
+        assertThat(stringMapper.map("1.000", int.class)).isEqualTo(1000);
+        assertThat(stringMapper.map("1,5", BigDecimal.class)).isEqualTo(new BigDecimal("1.5"));
+        assertThat(stringMapper.map("1.000", BigInteger.class)).isEqualTo(BigInteger.valueOf(1000));
+        assertThat(stringMapper.isValid("1,5", BigDecimal.class)).isTrue();
+
+        stringMapper.removeLocaleMapper();
+        assertThat(stringMapper.map("1.5", BigDecimal.class)).isEqualTo(new BigDecimal("1.5"));
+    }
+
+    @Test
+    void mapStringToBigNumbersAfterRemovingLocaleMapperWithMathMapper() {
+        stringMapper.addMathMapper();
+        stringMapper.addLocaleMapper(Locale.GERMANY);
+        assertThat(stringMapper.map("1,5", BigDecimal.class)).isEqualTo(new BigDecimal("1.5"));
+
+        stringMapper.removeLocaleMapper();
+        assertThat(stringMapper.map("1.5", BigDecimal.class)).isEqualTo(new BigDecimal("1.5"));
+        assertThat(stringMapper.map("12", BigInteger.class)).isEqualTo(BigInteger.valueOf(12));
+        assertThat(stringMapper.isValid("1,5", BigDecimal.class)).isFalse();
+    }
+
+    @Test
+    void mapStringWithParentLocaleMapper() {
+        stringMapper.addLocaleMapper(Locale.GERMANY);
+        StringMapper child = new StringMapper(stringMapper);
+
+        assertThat(child.map("1.234", int.class)).isEqualTo(1234);
+
+        child.addLocaleMapper(Locale.US);
+        assertThat(child.map("1,234", int.class)).isEqualTo(1234);
+        assertThat(stringMapper.map("1.234", int.class)).isEqualTo(1234);
+    }
+
+    @Test
+    void getInstanceSingleton() {
+        assertThat(StringMapper.getInstance()).isSameAs(StringMapper.getInstance());
+        assertThat(StringMapper.getInstance().getParent()).isNull();
+    }
+
+    @Test
+    void getCurrentWithBinding() {
+        assertThat(StringMapper.getCurrent()).isSameAs(StringMapper.getInstance());
+
+        StringMapper child = new StringMapper(stringMapper);
+        StringMapper.runWith(stringMapper, () -> {
+            assertThat(StringMapper.getCurrent()).isSameAs(stringMapper);
+            StringMapper current = StringMapper.callWith(child, StringMapper::getCurrent);
+            assertThat(current).isSameAs(child);
+            assertThat(StringMapper.getCurrent()).isSameAs(stringMapper);
+        });
+
+        assertThat(StringMapper.getCurrent()).isSameAs(StringMapper.getInstance());
+    }
+
+    // endregion
+
     @ParameterizedTest
     @MethodSource("getValidMappingArguments")
     void mapValidString(Class<?> type, String s) {
@@ -231,6 +478,480 @@ class StringMapperTest {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource("getValidMappingArguments")
+    void mapValidStringToPrimitive(Class<?> type, String s) {
+        if (type == int.class)
+            assertThat(stringMapper.mapToInt(s)).isEqualTo(stringMapper.map(s, type));
+        else if (type == long.class)
+            assertThat(stringMapper.mapToLong(s)).isEqualTo(stringMapper.map(s, type));
+        else if (type == double.class)
+            assertThat(stringMapper.mapToDouble(s)).isEqualTo(stringMapper.map(s, type));
+    }
+
+    @ParameterizedTest
+    @MethodSource("getInvalidMappingArguments")
+    void mapInvalidStringToPrimitive(Class<?> type, String s) {
+        if (type == int.class)
+            assertThatExceptionOfType(NumberFormatException.class)
+                .isThrownBy(() -> stringMapper.mapToInt(s));
+        else if (type == long.class)
+            assertThatExceptionOfType(NumberFormatException.class)
+                .isThrownBy(() -> stringMapper.mapToLong(s));
+        else if (type == double.class)
+            assertThatExceptionOfType(NumberFormatException.class)
+                .isThrownBy(() -> stringMapper.mapToDouble(s));
+    }
+
+    @Test
+    void mapStringsToIntSink() {
+        IntArrayBuilder builder = new IntArrayBuilder();
+
+        stringMapper.mapToInt(Arrays.asList("1", "-0x10", "#f", "010"), builder);
+
+        assertThat(builder.toArray()).containsExactly(1, -16, 15, 8);
+    }
+
+    @Test
+    void mapStringsToLongAndDoubleSinkWithLocaleMapper() {
+        LongArrayBuilder longBuilder = new LongArrayBuilder();
+        DoubleArrayBuilder doubleBuilder = new DoubleArrayBuilder();
+
+        stringMapper.addLocaleMapper(Locale.GERMANY);
+        stringMapper.mapToLong(Arrays.asList("1.000", "-2"), longBuilder);
+        stringMapper.mapToDouble(Arrays.asList("1.000,5", "-2,25"), doubleBuilder);
+
+        assertThat(longBuilder.toArray()).containsExactly(1000, -2);
+        assertThat(doubleBuilder.toArray()).containsExactly(1000.5, -2.25);
+    }
+
+    // region isValid and validate
+
+    @ParameterizedTest
+    @MethodSource("getValidMappingArguments")
+    void isValidWithValidString(Class<?> type, String s) {
+        assertThat(StringMapper.getInstance().isValid(s, type)).isTrue();
+    }
+
+    @ParameterizedTest
+    @MethodSource("getInvalidMappingArguments")
+    void isValidWithInvalidString(Class<?> type, String s) {
+        boolean valid;
+        try {
+            StringMapper.getInstance().map(s, type);
+            valid = true;
+        } catch (IllegalArgumentException e) {
+            valid = false;
+        }
+        assertThat(StringMapper.getInstance().isValid(s, type)).isEqualTo(valid);
+    }
+
+    @Test
+    void isValidWithNull() {
+        assertThat(stringMapper.isValid(null, Integer.class)).isTrue();
+        assertThat(stringMapper.isValid("null", LocalDate.class)).isTrue();
+        assertThat(stringMapper.isValid(null, int.class)).isFalse();
+    }
+
+    @Test
+    void isValidWithEnumMapper() {
+        assertThat(stringMapper.isValid("APRIL", Month.class)).isFalse();
+
+        stringMapper.addEnumMapper();
+        assertThat(stringMapper.isValid("APRIL", Month.class)).isTrue();
+        assertThat(stringMapper.isValid("April", Month.class)).isFalse();
+    }
+
+    @Test
+    void isValidWithMathAndTimeMapper() {
+        stringMapper.addMathMapper();
+        stringMapper.addTimeMapper();
+
+        assertThat(stringMapper.isValid("12.50", BigDecimal.class)).isTrue();
+        assertThat(stringMapper.isValid("12.5.0", BigDecimal.class)).isFalse();
+        assertThat(stringMapper.isValid("2018-11-25", LocalDate.class)).isTrue();
+        assertThat(stringMapper.isValid("2018-11-31", LocalDate.class)).isFalse();
+        assertThat(stringMapper.isValid("PT1H", Duration.class)).isTrue();
+        assertThat(stringMapper.isValid("1H", Duration.class)).isFalse();
+    }
+
+    @Test
+    void isValidWithLocaleMapper() {
+        stringMapper.addLocaleMapper(Locale.GERMANY);
+
+        assertThat(stringMapper.isValid("1.234", int.class)).isTrue();
+        assertThat(stringMapper.isValid("1.234", byte.class)).isFalse();
+        assertThat(stringMapper.isValid("1.234,5", double.class)).isTrue();
+        assertThat(stringMapper.isValid("1.234,5", BigInteger.class)).isFalse();
+    }
+
+    @Test
+    void isValidWithCustomMapperAndValidator() {
+        stringMapper.addCustomMapper(ParentTestClass.class, ParentTestClass::new, s -> s.length() > 1);
+
+        assertThat(stringMapper.isValid("test", ParentTestClass.class)).isTrue();
+        assertThat(stringMapper.isValid("t", ParentTestClass.class)).isFalse();
+        assertThat(stringMapper.isValid("test", ChildTestClass.class)).isFalse();
+    }
+
+    @Test
+    void isValidWithOverriddenMapPrimitive() {
+        stringMapper = new StringMapper() {
+            @Override
+            protected <T> T mapPrimitive(@NotNull String string, @NotNull Class<T> type) {
+                if (StringBuilder.class.equals(type))
+                    return type.cast(new StringBuilder(string));
+                if (int.class.equals(type) && string.equals("one"))
+                    //noinspection unchecked
+                    return (T) Integer.valueOf(1);
+                return super.mapPrimitive(string, type);
+            }
+        };
+
+        assertThat(stringMapper.isValid("x", StringBuilder.class)).isTrue();
+        assertThat(stringMapper.isValid("one", int.class)).isTrue();
+        assertThat(stringMapper.isValid("two", int.class)).isFalse();
+        assertThat(stringMapper.validate(Arrays.asList("x", null), StringBuilder.class)).isEqualTo(new BitSet());
+    }
+
+    @Test
+    void validateStrings() {
+        stringMapper.addTimeMapper();
+
+        assertThat(stringMapper.validate(Arrays.asList("1", "x", null, "0x10", "99999999999"), int.class))
+            .isEqualTo(BitSet.valueOf(new long[]{0b10110}));
+        assertThat(stringMapper.validate(Arrays.asList("2018-11-25", "2018-02-29", null), LocalDate.class))
+            .isEqualTo(BitSet.valueOf(new long[]{0b10}));
+    }
+
+    // endregion
+
+    // region factory mapper
+
+    @Test
+    void mapStringToDurationWithFactoryMapper() {
+        stringMapper.addFactoryMapper();
+        assertThat(stringMapper.map("PT1S", Duration.class)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(stringMapper.map("INFO", Level.class)).isEqualTo(Level.INFO);
+    }
+
+    @Test
+    void mapStringToDurationWithoutFactoryMapper() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> stringMapper.map("PT1S", Duration.class))
+            .withMessage(Duration.class.getName());
+    }
+
+    @Test
+    void mapStringToDurationWithRemovedFactoryMapper() {
+        stringMapper.addFactoryMapper();
+        stringMapper.removeFactoryMapper();
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> stringMapper.map("PT1S", Duration.class))
+            .withMessage(Duration.class.getName());
+    }
+
+    @Test
+    void mapStringWithFactoryMapperOfParent() {
+        StringMapper parent = new StringMapper();
+        parent.addFactoryMapper();
+        assertThat(new StringMapper(parent).map("PT1S", Duration.class)).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void mapStringToClassWithoutFactoryWithFactoryMapper() {
+        stringMapper.addFactoryMapper();
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> stringMapper.map("test", ParentTestClass.class))
+            .withMessage(ParentTestClass.class.getName());
+    }
+
+    @Test
+    void isValidWithFactoryMapper() {
+        stringMapper.addFactoryMapper();
+        assertThat(stringMapper.isValid("PT1S", Duration.class)).isTrue();
+        assertThat(stringMapper.isValid("1S", Duration.class)).isFalse();
+        assertThat(stringMapper.isValid("test", ParentTestClass.class)).isFalse();
+    }
+
+    // endregion
+
+    // region adaptive mapper
+
+    @Test
+    void addAdaptiveMapperWithInvalidWarmUp() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> stringMapper.addAdaptiveMapper(0))
+            .withMessage("warmUp: 0");
+    }
+
+    @Test
+    void getAdaptiveReportWithoutAdaptiveMapper() {
+        assertThat(stringMapper.getAdaptiveReport()).isNull();
+        stringMapper.addAdaptiveMapper();
+        stringMapper.removeAdaptiveMapper();
+        assertThat(stringMapper.getAdaptiveReport()).isNull();
+    }
+
+    @Test
+    void mapStringWithAdaptiveMapperDuringWarmUp() {
+        stringMapper.addAdaptiveMapper(10);
+        assertThat(stringMapper.map("1", int.class)).isEqualTo(1);
+        assertThat(stringMapper.map("2", int.class)).isEqualTo(2);
+        assertThat(stringMapper.map("null", Integer.class)).isNull();
+
+        AdaptiveReport report = stringMapper.getAdaptiveReport();
+        assertThat(report).isNotNull();
+        assertThat(report.isSpecialized()).isFalse();
+        assertThat(report.getSampleCount()).isEqualTo(2);
+        assertThat(report.getTypeCounts()).containsExactly(Map.entry(int.class, 2L));
+    }
+
+    @Test
+    void mapStringWithAdaptiveMapperAfterWarmUp() {
+        StringMapper parent = new StringMapper();
+        parent.addCustomMapper(Period.class, Period::parse);
+        stringMapper = new StringMapper(parent);
+        stringMapper.addEnumMapper();
+        stringMapper.addFactoryMapper();
+        stringMapper.addCustomMapper(ChildTestClass.class, ChildTestClass::new);
+        stringMapper.addCustomMapper(ParentTestClass.class, ParentTestClass::new);
+        stringMapper.removeCustomMapper(ParentTestClass.class);
+        stringMapper.addAdaptiveMapper(12);
+        for (int i = 0; i < 2; i++) {
+            assertThat(stringMapper.map("1", int.class)).isEqualTo(1);
+            assertThat(stringMapper.map("1", int.class)).isEqualTo(1);
+            assertThat(stringMapper.map("MAY", Month.class)).isEqualTo(Month.MAY);
+            assertThat(stringMapper.map("c", ParentTestClass.class)).isEqualTo(new ChildTestClass("c"));
+            assertThat(stringMapper.map("P1D", Period.class)).isEqualTo(Period.ofDays(1));
+            assertThat(stringMapper.map("PT1S", Duration.class)).isEqualTo(Duration.ofSeconds(1));
+        }
+
+        AdaptiveReport report = stringMapper.getAdaptiveReport();
+        assertThat(report).isNotNull();
+        assertThat(report.isSpecialized()).isTrue();
+        assertThat(report.getTypeCounts()).containsEntry(int.class, 4L).hasSize(5);
+        assertThat(report.getSpecializations()).containsExactlyInAnyOrderEntriesOf(Map.of(
+            int.class, AdaptiveReport.Resolution.PRIMITIVE,
+            Month.class, AdaptiveReport.Resolution.ENUM,
+            ParentTestClass.class, AdaptiveReport.Resolution.FALLBACK,
+            Period.class, AdaptiveReport.Resolution.FALLBACK,
+            Duration.class, AdaptiveReport.Resolution.FACTORY
+        ));
+        assertThat(report.getSpecializations().keySet()).first().isEqualTo(int.class);
+
+        assertThat(stringMapper.map("2", int.class)).isEqualTo(2);
+        assertThat(stringMapper.map("p", ParentTestClass.class)).isEqualTo(new ChildTestClass("p"));
+        assertThatExceptionOfType(NumberFormatException.class)
+            .isThrownBy(() -> stringMapper.map("x", int.class));
+        assertThat(stringMapper.getAdaptiveReport().getSampleCount()).isEqualTo(12);
+    }
+
+    @Test
+    void mapStringWithAdaptiveMapperAndLaterHotType() {
+        stringMapper.addAdaptiveMapper(10);
+        for (int i = 0; i < 10; i++)
+            assertThat(stringMapper.map("1", Integer.class)).isEqualTo(1);
+        assertThat(stringMapper.getAdaptiveReport().getSpecializations())
+            .containsExactly(Map.entry(Integer.class, AdaptiveReport.Resolution.PRIMITIVE));
+
+        for (int i = 0; i < 1000; i++)
+            assertThat(stringMapper.map("2", Long.class)).isEqualTo(2L);
+        AdaptiveReport report = stringMapper.getAdaptiveReport();
+        assertThat(report.getTypeCounts()).containsExactlyInAnyOrderEntriesOf(
+            Map.of(Integer.class, 10L, Long.class, 10L)
+        );
+        assertThat(report.getSpecializations()).containsExactlyInAnyOrderEntriesOf(Map.of(
+            Integer.class, AdaptiveReport.Resolution.PRIMITIVE,
+            Long.class, AdaptiveReport.Resolution.PRIMITIVE
+        ));
+        assertThat(report.getSampleCount()).isEqualTo(20);
+    }
+
+    @Test
+    void mapStringWithAdaptiveMapperWithoutMappableType() {
+        stringMapper.addAdaptiveMapper(1);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> stringMapper.map("p", ParentTestClass.class));
+
+        AdaptiveReport report = stringMapper.getAdaptiveReport();
+        assertThat(report.isSpecialized()).isTrue();
+        assertThat(report.getSpecializations()).isEmpty();
+    }
+
+    @Test
+    void mapStringWithAdaptiveMapperAfterModification() {
+        StringMapper parent = new StringMapper();
+        stringMapper = new StringMapper(parent);
+        stringMapper.addCustomMapper(ParentTestClass.class, ParentTestClass::new);
+        stringMapper.addAdaptiveMapper(1);
+        assertThat(stringMapper.map("p", ParentTestClass.class)).isEqualTo(new ParentTestClass("p"));
+        assertThat(stringMapper.getAdaptiveReport().isSpecialized()).isTrue();
+
+        stringMapper.addCustomMapper(ParentTestClass.class, ChildTestClass::new);
+        assertThat(stringMapper.map("c", ParentTestClass.class)).isEqualTo(new ChildTestClass("c"));
+        parent.addLocaleMapper(Locale.GERMANY);
+        assertThat(stringMapper.map("1.234", int.class)).isEqualTo(1234);
+        assertThat(stringMapper.map("1.234", int.class)).isEqualTo(1234);
+        assertThat(stringMapper.getAdaptiveReport().getSpecializations())
+            .containsEntry(int.class, AdaptiveReport.Resolution.PRIMITIVE);
+    }
+
+    @Test
+    void mapStringWithAdaptiveMapperAndOverriddenMapPrimitive() {
+        stringMapper = new StringMapper() {
+            @Override
+            protected <T> T mapPrimitive(@NotNull String string, @NotNull Class<T> type) {
+                if (ParentTestClass.class.equals(type))
+                    return type.cast(new ParentTestClass("override"));
+                return super.mapPrimitive(string, type);
+            }
+        };
+        stringMapper.addCustomMapper(ParentTestClass.class, ParentTestClass::new);
+        stringMapper.addAdaptiveMapper(1);
+        for (int i = 0; i < 3; i++)
+            assertThat(stringMapper.map("p", ParentTestClass.class))
+                .isEqualTo(new ParentTestClass("override"));
+        assertThat(stringMapper.map("1", int.class)).isEqualTo(1);
+        assertThat(stringMapper.getAdaptiveReport().getSpecializations())
+            .containsExactly(Map.entry(ParentTestClass.class, AdaptiveReport.Resolution.EXACT));
+    }
+
+    // endregion
+
+    // region composite
+
+    @Test
+    void mapStringToMapOfStringAndInteger() {
+        Map<String, Integer> map = stringMapper.map(" a = 1; b=0x10;;c=null; ", type("stringIntegerMap"));
+        assertThat(map).containsExactly(
+            Map.entry("a", 1), Map.entry("b", 16), new AbstractMap.SimpleEntry<>("c", null)
+        );
+    }
+
+    @Test
+    void mapStringToEmptyMap() {
+        assertThat(stringMapper.<Map<String, Integer>>map("", type("stringIntegerMap"))).isEmpty();
+        assertThat(stringMapper.<Map<String, Integer>>map(null, type("stringIntegerMap"))).isNull();
+    }
+
+    @Test
+    void mapStringToRawMap() {
+        assertThat(stringMapper.<Map<Object, Object>>map("a=1", (Type) Map.class)).containsExactly(Map.entry("a", "1"));
+    }
+
+    @Test
+    void mapStringToMapWithoutKeyValueSeparator() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> stringMapper.map("a=1;b", type("stringIntegerMap")))
+            .withMessage("no key value separator: b");
+    }
+
+    @Test
+    void mapStringToMapWithInvalidValue() {
+        assertThatExceptionOfType(NumberFormatException.class)
+            .isThrownBy(() -> stringMapper.map("a=x", type("stringIntegerMap")));
+    }
+
+    @Test
+    void mapStringToEntry() {
+        Map.Entry<String, Integer> entry = stringMapper.map("localhost:8080", type("stringIntegerEntry"));
+        assertThat(entry).isEqualTo(Map.entry("localhost", 8080));
+    }
+
+    @Test
+    void mapStringToMapOfOptionalAndBigDecimal() {
+        stringMapper.addMathMapper();
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> stringMapper.map("MAY=1.50", type("monthOptionalMap")))
+            .withMessage(Month.class.getName());
+
+        stringMapper.addEnumMapper();
+        Map<Month, Optional<BigDecimal>> map = stringMapper.map("MAY=1.50;JUNE=", type("monthOptionalMap"));
+        assertThat(map).containsExactly(
+            Map.entry(Month.MAY, Optional.of(new BigDecimal("1.50"))),
+            Map.entry(Month.JUNE, Optional.empty())
+        );
+    }
+
+    @Test
+    void mapStringToOptional() {
+        assertThat(stringMapper.<Optional<Integer>>map("1", type("integerOptional"))).contains(1);
+        assertThat(stringMapper.<Optional<Integer>>map("null", type("integerOptional"))).isEmpty();
+        assertThat(stringMapper.<Optional<Integer>>map(null, type("integerOptional"))).isEmpty();
+        assertThat(stringMapper.<Optional<Object>>map("x", (Type) Optional.class)).contains("x");
+    }
+
+    @Test
+    void mapStringToTuple() {
+        assertThat(stringMapper.<TupleTestClass>map("localhost, 8080", (Type) TupleTestClass.class))
+            .isEqualTo(new TupleTestClass("localhost", 8080));
+        assertThat(stringMapper.<Map<String, TupleTestClass>>map("a=h,1;b=i,2", type("tupleMap")))
+            .containsExactly(
+                Map.entry("a", new TupleTestClass("h", 1)),
+                Map.entry("b", new TupleTestClass("i", 2))
+            );
+    }
+
+    @Test
+    void mapStringToTupleWithMissingComponent() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> stringMapper.map("localhost", (Type) TupleTestClass.class))
+            .withMessage("expected 2 components: localhost");
+    }
+
+    @Test
+    void mapStringToRecursiveTuple() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> stringMapper.map("a,b", (Type) Node.class))
+            .withMessage(Node.class.getName());
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> stringMapper.map("a,b", (Type) RecursiveTuple.class))
+            .withMessage(RecursiveTuple.class.getName());
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> stringMapper.map("a,b", type("recursiveTupleOptional")))
+            .withMessage(RecursiveTuple.class.getName());
+    }
+
+    @Test
+    void mapStringToTupleWithFailingConstructor() {
+        assertThatExceptionOfType(IllegalStateException.class)
+            .isThrownBy(() -> stringMapper.map("a,-1", (Type) PositiveTuple.class))
+            .withMessage("negative: -1");
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> stringMapper.map("a,1", (Type) CheckedTuple.class))
+            .withCauseInstanceOf(Exception.class);
+    }
+
+    @Test
+    void mapStringToTupleWithCustomMapper() {
+        stringMapper.addCustomMapper(TupleTestClass.class, s -> new TupleTestClass(s, 0));
+        assertThat(stringMapper.<TupleTestClass>map("a,1", (Type) TupleTestClass.class))
+            .isEqualTo(new TupleTestClass("a,1", 0));
+    }
+
+    @Test
+    void mapStringToUnsupportedType() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> stringMapper.map("x", type("parentTestClassMap")))
+            .withMessage("no key value separator: x");
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> stringMapper.map("a=x", type("parentTestClassMap")))
+            .withMessage(ParentTestClass.class.getName());
+    }
+
+    @Test
+    void mapStringToTypeWithLocaleMapper() {
+        assertThatExceptionOfType(NumberFormatException.class)
+            .isThrownBy(() -> stringMapper.map("a=1.234", type("stringLongMap")));
+
+        stringMapper.addLocaleMapper(Locale.GERMANY);
+        assertThat(stringMapper.<Map<String, Long>>map("a=1.234", type("stringLongMap")))
+            .containsExactly(Map.entry("a", 1234L));
+    }
+
+    // endregion
+
     // region arguments stream
 
     private static Stream<Arguments> getValidMappingArguments() {
@@ -242,4 +963,50 @@ class StringMapperTest {
     }
 
     // endregion
+
+    private static Type type(String field) {
+        try {
+            return CompositeTypes.class.getDeclaredField(field).getGenericType();
+        } catch (NoSuchFieldException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static final class CompositeTypes {
+        private Map<String, Integer> stringIntegerMap;
+        private Map<String, Long> stringLongMap;
+        private Map.Entry<String, Integer> stringIntegerEntry;
+        private Map<Month, Optional<BigDecimal>> monthOptionalMap;
+        private Optional<Integer> integerOptional;
+        private Map<String, TupleTestClass> tupleMap;
+        private Map<String, ParentTestClass> parentTestClassMap;
+        private Optional<RecursiveTuple> recursiveTupleOptional;
+    }
+
+    public static final class Node {
+        @SuppressWarnings("unused")
+        public Node(String value, Node next) {
+        }
+    }
+
+    public static final class RecursiveTuple {
+        @SuppressWarnings("unused")
+        public RecursiveTuple(String value, Optional<RecursiveTuple> next) {
+        }
+    }
+
+    public static final class PositiveTuple {
+        @SuppressWarnings("unused")
+        public PositiveTuple(String value, int count) {
+            if (count < 0) throw new IllegalStateException("negative: " + count);
+        }
+    }
+
+    public static final class CheckedTuple {
+        @SuppressWarnings("unused")
+        public CheckedTuple(String value, int count) throws Exception {
+            throw new Exception(value);
+        }
+    }
 }
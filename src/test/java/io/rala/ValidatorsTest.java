@@ -0,0 +1,138 @@
+package io.rala;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValidatorsTest {
+    private static final String MUTATION_CHARS = "0123456789-+:.TtZzeEx#";
+
+    @ParameterizedTest
+    @MethodSource("getNumberArguments")
+    void isDecodableLikeDecode(String s) {
+        assertSameResult(s, string -> Validators.isDecodable(string, Byte.MIN_VALUE, Byte.MAX_VALUE), Byte::decode);
+        assertSameResult(s, string -> Validators.isDecodable(string, Integer.MIN_VALUE, Integer.MAX_VALUE), Integer::decode);
+        assertSameResult(s, string -> Validators.isDecodable(string, Long.MIN_VALUE, Long.MAX_VALUE), Long::decode);
+    }
+
+    @ParameterizedTest
+    @MethodSource("getNumberArguments")
+    void isFloatingPointLikeParseDouble(String s) {
+        assertSameResult(s, Validators::isFloatingPoint, Double::parseDouble);
+    }
+
+    @ParameterizedTest
+    @MethodSource("getNumberArguments")
+    void isBigIntegerLikeConstructor(String s) {
+        assertSameResult(s, Validators::isBigInteger, BigInteger::new);
+    }
+
+    @ParameterizedTest
+    @MethodSource("getNumberArguments")
+    void isBigDecimalLikeConstructor(String s) {
+        assertSameResult(s, Validators::isBigDecimal, BigDecimal::new);
+    }
+
+    @ParameterizedTest
+    @MethodSource("getTimeArguments")
+    void isTimeLikeParse(String s) {
+        assertSameResult(s, Validators::isLocalDate, LocalDate::parse);
+        assertSameResult(s, Validators::isLocalTime, LocalTime::parse);
+        assertSameResult(s, Validators::isLocalDateTime, LocalDateTime::parse);
+        assertSameResult(s, Validators::isOffsetDateTime, OffsetDateTime::parse);
+        assertSameResult(s, Validators::isOffsetTime, OffsetTime::parse);
+        assertSameResult(s, Validators::isYearMonth, YearMonth::parse);
+        assertSameResult(s, Validators::isMonthDay, MonthDay::parse);
+        assertSameResult(s, Validators::isInstant, Instant::parse);
+    }
+
+    // region assert
+
+    private static void assertSameResult(
+        String s, Predicate<String> validator, Function<String, ?> parser
+    ) {
+        boolean parsed;
+        try {
+            parser.apply(s);
+            parsed = true;
+        } catch (RuntimeException e) {
+            parsed = false;
+        }
+        assertThat(validator.test(s)).as(s).isEqualTo(parsed);
+    }
+
+    // endregion
+
+    // region arguments stream
+
+    private static Stream<Arguments> getNumberArguments() {
+        return withMutations(Arrays.asList(
+            "", "0", "-0", "+0", "00", "07", "08", "0x", "0x1F", "-0X1f", "#ff", "-#80", "0x-1",
+            "127", "128", "-128", "-129", "2147483647", "2147483648", "-2147483648",
+            "9223372036854775807", "9223372036854775808", "-9223372036854775808",
+            "18446744073709551616", "1.5", ".5", "5.", ".", "-.5e-3", "1e", "1e+", "1E10",
+            "1e2147483648", "1e-2147483648", "1e-2147483649", "1e-2147483647", "0.1e-2147483647", "1e00000000000000001",
+            "1e12345678901", " 1.5 ", "NaN", "-Infinity", "Infinityx", "1.5f", "1.5D",
+            "0x1p3", "0x.8p1", "0x1.p-1", "0x1", "0xp1", "١٢", "1_000", "--1"
+        ));
+    }
+
+    private static Stream<Arguments> getTimeArguments() {
+        return withMutations(Arrays.asList(
+            "2018-11-25", "2018-02-29", "2020-02-29", "2000-02-29", "1900-02-29", "2018-04-31",
+            "2018-13-01", "2018-00-10", "2018-01-00", "+2018-01-01", "+12018-01-01",
+            "12018-01-01", "-2018-01-01", "-0000-01-01", "0000-01-01", "+999999999-01-01",
+            "+1000000000-01-01", "-999999999-01-01", "+0000000001-01-01",
+            "10:15", "10:15:30", "10:15:30.", "10:15:30.123456789", "10:15:30.1234567890",
+            "24:00", "23:60", "23:59:60", "10:15:", "1:15",
+            "2018-11-25T10:15", "2018-11-25t10:15:30", "2018-11-25 10:15",
+            "2018-11-25T10:15:30Z", "2018-11-25T10:15:30z", "2018-11-25T10:15Z",
+            "2018-11-25T10:15:30+01:00", "2018-11-25T10:15:30+18:00", "2018-11-25T10:15:30+18:01",
+            "2018-11-25T10:15:30+01:00:30", "2018-11-25T10:15:30+01:00:60", "2018-11-25T10:15:30+0100",
+            "2018-11-25T10:15:30+01", "2018-11-25T10:15:30-00:00", "2018-11-25T10:15:30+24:00",
+            "2018-11-25T24:00:00Z", "2018-11-25T24:00:01Z", "2018-11-25T23:59:60Z",
+            "2018-11-25T22:59:60Z", "2018-11-25T10:15:30.5Z", "2018-11-25T10:15:30.Z",
+            "10:15+01:00", "10:15:30Z", "10:15:30.5-05:30",
+            "2018-11", "+12018-11", "2018-13", "2018-1",
+            "--11-25", "--02-29", "--02-30", "--04-31", "--13-01", "--00-01", "--11-2"
+        ));
+    }
+
+    private static Stream<Arguments> withMutations(List<String> strings) {
+        Random random = new Random(42);
+        List<String> arguments = new ArrayList<>(strings);
+        for (String string : strings)
+            for (int i = 0; i < 10 && !string.isEmpty(); i++) {
+                StringBuilder builder = new StringBuilder(string);
+                int index = random.nextInt(builder.length());
+                char c = MUTATION_CHARS.charAt(random.nextInt(MUTATION_CHARS.length()));
+                switch (random.nextInt(3)) {
+                    case 0:
+                        builder.setCharAt(index, c);
+                        break;
+                    case 1:
+                        builder.insert(index, c);
+                        break;
+                    default:
+                        builder.deleteCharAt(index);
+                }
+                arguments.add(builder.toString());
+            }
+        return arguments.stream().distinct().map(Arguments::of);
+    }
+
+    // endregion
+}
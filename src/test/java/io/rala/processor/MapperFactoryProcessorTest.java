@@ -0,0 +1,134 @@
+package io.rala.processor;
+
+import io.rala.MapperRegistration;
+import io.rala.StringMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MapperFactoryProcessorTest {
+    private static final String SOURCE = "package test;\n" +
+        "public class Money {\n" +
+        "    public final long cents;\n" +
+        "    private Money(long cents) { this.cents = cents; }\n" +
+        "    @io.rala.MapperFactory\n" +
+        "    public static Money parseCents(CharSequence s) { return new Money(Long.parseLong(s.toString())); }\n" +
+        "    public static class Nested {\n" +
+        "        @io.rala.MapperFactory\n" +
+        "        static Nested create(String s) { return new Nested(); }\n" +
+        "    }\n" +
+        "}\n";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void compileAndLoadRegistrations() throws Exception {
+        Path output = compile(SOURCE);
+
+        assertThat(output.resolve("META-INF/services/" + MapperRegistration.class.getName()))
+            .hasContent("test.Money_Nested_create_MapperRegistration\n" +
+                "test.Money_parseCents_MapperRegistration");
+
+        try (URLClassLoader classLoader = new URLClassLoader(
+            new URL[]{output.toUri().toURL()}, getClass().getClassLoader()
+        )) {
+            StringMapper stringMapper = new StringMapper();
+            stringMapper.addFactoryMapper(classLoader);
+            Class<?> money = classLoader.loadClass("test.Money");
+            Object mapped = stringMapper.map("123", money);
+            assertThat(mapped).isInstanceOf(money);
+            assertThat(money.getField("cents").get(mapped)).isEqualTo(123L);
+            assertThat(stringMapper.map("x", classLoader.loadClass("test.Money$Nested"))).isNotNull();
+
+            stringMapper.removeFactoryMapper();
+            assertThat(stringMapper.isValid("123", money)).isFalse();
+        }
+    }
+
+    @Test
+    void removeFactoryMapperKeepsCustomMapper() throws Exception {
+        Path output = compile(SOURCE);
+
+        try (URLClassLoader classLoader = new URLClassLoader(
+            new URL[]{output.toUri().toURL()}, getClass().getClassLoader()
+        )) {
+            StringMapper stringMapper = new StringMapper();
+            stringMapper.addFactoryMapper(classLoader);
+            Class<?> money = classLoader.loadClass("test.Money");
+            @SuppressWarnings("unchecked")
+            Class<Object> nested = (Class<Object>) classLoader.loadClass("test.Money$Nested");
+            Object instance = nested.getConstructor().newInstance();
+            stringMapper.addCustomMapper(nested, s -> instance);
+
+            stringMapper.removeFactoryMapper();
+            assertThat(stringMapper.isValid("123", money)).isFalse();
+            assertThat(stringMapper.map("x", nested)).isSameAs(instance);
+        }
+    }
+
+    @Test
+    void compileInvalidFactory() throws Exception {
+        String source = "package test;\n" +
+            "public class Invalid {\n" +
+            "    @io.rala.MapperFactory\n" +
+            "    public Invalid create(String s) { return this; }\n" +
+            "}\n";
+        StringWriter messages = new StringWriter();
+
+        assertThat(compile(source, messages)).isFalse();
+        assertThat(messages.toString()).contains("method has to be static and not private");
+    }
+
+    // region compile
+
+    private Path compile(String source) throws IOException {
+        StringWriter messages = new StringWriter();
+        assertThat(compile(source, messages)).as(messages.toString()).isTrue();
+        return directory.resolve("classes");
+    }
+
+    private boolean compile(String source, StringWriter messages) throws IOException {
+        Path sources = Files.createDirectories(directory.resolve("sources/test"));
+        Path classes = Files.createDirectories(directory.resolve("classes"));
+        Path file = Files.write(
+            sources.resolve(source.contains("class Money") ? "Money.java" : "Invalid.java"),
+            source.getBytes(StandardCharsets.UTF_8)
+        );
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            String classPath = new File(
+                MapperRegistration.class.getProtectionDomain().getCodeSource().getLocation().getPath()
+            ).getPath();
+            List<String> options = Arrays.asList(
+                "-classpath", classPath,
+                "-d", classes.toString(),
+                "-s", classes.toString()
+            );
+            JavaCompiler.CompilationTask task = compiler.getTask(
+                messages, fileManager, null, options, null,
+                fileManager.getJavaFileObjects(file.toFile())
+            );
+            task.setProcessors(Collections.singletonList(new MapperFactoryProcessor()));
+            return task.call();
+        }
+    }
+
+    // endregion
+}
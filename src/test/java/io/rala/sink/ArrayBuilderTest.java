@@ -0,0 +1,60 @@
+package io.rala.sink;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ArrayBuilderTest {
+    @Test
+    void intArrayBuilderGrowing() {
+        IntArrayBuilder builder = new IntArrayBuilder(0);
+        for (int i = 0; i < 100; i++) builder.accept(i);
+
+        assertThat(builder.size()).isEqualTo(100);
+        assertThat(builder.get(42)).isEqualTo(42);
+        assertThat(builder.toArray()).hasSize(100).startsWith(0, 1, 2).endsWith(99);
+
+        builder.clear();
+        assertThat(builder.size()).isZero();
+        assertThat(builder.toArray()).isEmpty();
+    }
+
+    @Test
+    void longArrayBuilderWithDefaultCapacity() {
+        LongArrayBuilder builder = new LongArrayBuilder();
+        builder.accept(Long.MIN_VALUE);
+        builder.accept(Long.MAX_VALUE);
+
+        assertThat(builder.toArray()).containsExactly(Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    @Test
+    void doubleArrayBuilderGetInvalidIndex() {
+        DoubleArrayBuilder builder = new DoubleArrayBuilder(4);
+        builder.accept(0.5);
+
+        assertThat(builder.get(0)).isEqualTo(0.5);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+            .isThrownBy(() -> builder.get(1));
+    }
+
+    @Test
+    void copyTo() {
+        LongArrayBuilder builder = new LongArrayBuilder(8);
+        builder.accept(1);
+        builder.accept(2);
+        long[] array = new long[4];
+
+        builder.copyTo(array, 1);
+        assertThat(array).containsExactly(0, 1, 2, 0);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+            .isThrownBy(() -> builder.copyTo(array, 3));
+    }
+
+    @Test
+    void constructorWithNegativeCapacity() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new IntArrayBuilder(-1));
+    }
+}
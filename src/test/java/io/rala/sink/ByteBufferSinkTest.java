@@ -0,0 +1,63 @@
+package io.rala.sink;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ByteBufferSinkTest {
+    @Test
+    void allocateDirect() {
+        ByteBufferSink sink = ByteBufferSink.allocateDirect(2, Long.BYTES);
+
+        assertThat(sink.getBuffer().isDirect()).isTrue();
+        assertThat(sink.getBuffer().capacity()).isEqualTo(16);
+        assertThat(sink.getBuffer().order()).isEqualTo(ByteOrder.nativeOrder());
+    }
+
+    @Test
+    void allocateDirectTooLarge() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> ByteBufferSink.allocateDirect(Integer.MAX_VALUE, Long.BYTES));
+    }
+
+    @Test
+    void acceptAndRead() {
+        ByteBufferSink sink = ByteBufferSink.allocateDirect(3, Long.BYTES);
+        sink.accept(1L);
+        sink.accept(2.5);
+        sink.accept(3);
+
+        ByteBuffer buffer = sink.toReadBuffer();
+        assertThat(buffer.remaining()).isEqualTo(20);
+        assertThat(buffer.getLong()).isEqualTo(1L);
+        assertThat(buffer.getDouble()).isEqualTo(2.5);
+        assertThat(buffer.getInt()).isEqualTo(3);
+    }
+
+    @Test
+    void acceptAndReadWithBufferAtPosition() {
+        ByteBuffer buffer = ByteBuffer.allocate(3 * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(99);
+        ByteBufferSink sink = new ByteBufferSink(buffer);
+        sink.accept(7);
+
+        ByteBuffer readBuffer = sink.toReadBuffer();
+        assertThat(readBuffer.remaining()).isEqualTo(4);
+        assertThat(readBuffer.order()).isEqualTo(ByteOrder.LITTLE_ENDIAN);
+        assertThat(readBuffer.getInt()).isEqualTo(7);
+    }
+
+    @Test
+    void acceptWithFullBuffer() {
+        ByteBufferSink sink = new ByteBufferSink(ByteBuffer.allocate(Integer.BYTES));
+        sink.accept(1);
+
+        assertThatExceptionOfType(BufferOverflowException.class)
+            .isThrownBy(() -> sink.accept(2));
+    }
+}
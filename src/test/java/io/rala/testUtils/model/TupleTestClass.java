@@ -0,0 +1,42 @@
+package io.rala.testUtils.model;
+
+import java.util.Objects;
+
+public class TupleTestClass {
+    private final String host;
+    private final int port;
+
+    public TupleTestClass(String host, int port) {
+        this.host = host;
+        this.port = port;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TupleTestClass)) return false;
+        TupleTestClass that = (TupleTestClass) o;
+        return getPort() == that.getPort() && Objects.equals(getHost(), that.getHost());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getHost(), getPort());
+    }
+
+    @Override
+    public String toString() {
+        return "TupleTestClass{" +
+            "host='" + getHost() + '\'' +
+            ", port=" + getPort() +
+            '}';
+    }
+}